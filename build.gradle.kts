@@ -2,6 +2,7 @@ plugins {
     java
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
+    alias(libs.plugins.jmh)
     id("jacoco")
 }
 
@@ -23,6 +24,11 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    // spring.main.web-application-type=reactive 로 실행 시 ReactivePointController 사용
+    implementation(libs.spring.boot.starter.webflux)
+    // /actuator/prometheus 로 point.* 지표 노출
+    implementation(libs.spring.boot.starter.actuator)
+    runtimeOnly(libs.micrometer.registry.prometheus)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
@@ -31,11 +37,26 @@ dependencies {
 
 // about source and compilation
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    toolchain {
+        // virtual threads (point.execution.virtual-threads)
+        languageVersion = JavaLanguageVersion.of(21)
+    }
+}
+
+// benchmark (src/jmh)
+// ./gradlew jmh -Pjmh.includes=<benchmark 정규식> -Pjmh.resultsFile=<결과 JSON 경로> -Pjmh.profilers=<gc 등, 쉼표 구분>
+jmh {
+    jmhVersion = libs.versions.jmh.get()
+    findProperty("jmh.includes")?.let { includes.add(it.toString()) }
+    findProperty("jmh.profilers")?.let { profilers.addAll(it.toString().split(",")) }
+    resultFormat = "JSON"
+    resultsFile = findProperty("jmh.resultsFile")
+        ?.let { layout.projectDirectory.file(it.toString()) }
+        ?: layout.buildDirectory.file("results/jmh/results.json").get()
 }
 
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
-    toolVersion = "0.8.7"
+    toolVersion = "0.8.11"
 }
 
 // bundling tasks
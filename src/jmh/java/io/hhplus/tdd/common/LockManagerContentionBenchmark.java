@@ -0,0 +1,85 @@
+package io.hhplus.tdd.common;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경합 정도에 따른 LockManager.executeFunctionWithLock 처리량
+ * - users : 8개 스레드의 요청이 분산되는 유저 수 (1 이면 모든 요청이 같은 락을 두고 경합)
+ * - work : 락을 잡은 채 수행하는 작업량 (Blackhole.consumeCPU 토큰 수)
+ * - 락 평균/최대 대기 시간(ns)과 획득 실패 건수를 보조 지표로 함께 보고
+ *
+ * ./gradlew jmh -Pjmh.includes=LockManagerContentionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LockManagerContentionBenchmark {
+
+    @Param({"1", "8", "64", "100000"})
+    public int users;
+
+    @Param({"0", "100"})
+    public int work;
+
+    private LockManager lockManager;
+
+    @Setup
+    public void setUp() {
+        lockManager = new LockManager(new LockProperties());
+    }
+
+    /**
+     * 측정 종료 시까지 누적된 락 대기 지표 (warmup 포함)
+     * (보조 지표는 스레드와 측정 iteration 에 걸쳐 합산되므로, 첫 번째 스레드가 마지막 측정 iteration 에서만 보고)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class LockWait {
+
+        private LockManager lockManager;
+        private int measuredIterations;
+        private boolean reporter;
+
+        @Setup(Level.Iteration)
+        public void setUp(LockManagerContentionBenchmark benchmark, ThreadParams threadParams, IterationParams iterationParams) {
+            lockManager = benchmark.lockManager;
+            boolean measurement = iterationParams.getType() == IterationType.MEASUREMENT;
+            if ( measurement ) {
+                measuredIterations++;
+            }
+            reporter = threadParams.getThreadIndex() == 0 && measurement && measuredIterations == iterationParams.getCount();
+        }
+
+        public long averageWaitNanos() {
+            return reporter ? lockManager.getMetrics().averageWaitNanos() : 0;
+        }
+
+        public long maxWaitNanos() {
+            return reporter ? lockManager.getMetrics().maxWaitNanos() : 0;
+        }
+
+        public long rejected() {
+            return reporter ? lockManager.getMetrics().rejected() : 0;
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long eightThreads(LockWait lockWait) {
+        long userId = ThreadLocalRandom.current().nextLong(1, users + 1L);
+        return lockManager.executeFunctionWithLock(userId, () -> {
+            Blackhole.consumeCPU(work);
+            return userId;
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package io.hhplus.tdd.common;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LockTable 구현별 LockManager.executeFunctionWithLock 처리량 비교
+ * - users : 요청이 분산되는 유저 수 (클수록 MAP 은 Lock 을 많이 보관)
+ * - 보관 중인 Lock 개수(locks)를 보조 지표로 함께 보고해 메모리 사용량을 비교
+ *
+ * ./gradlew jmh -Pjmh.includes=LockTableBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LockTableBenchmark {
+
+    @Param({"MAP", "STRIPED", "REF_COUNTED"})
+    public LockTableType table;
+
+    @Param({"1000", "1000000"})
+    public int users;
+
+    private LockManager lockManager;
+
+    @Setup
+    public void setUp() {
+        LockProperties lockProperties = new LockProperties();
+        lockProperties.setTable(table);
+        lockManager = new LockManager(lockProperties);
+    }
+
+    /**
+     * 측정 종료 시 보관 중인 Lock 개수
+     * (보조 지표는 스레드와 측정 iteration 에 걸쳐 합산되므로, 첫 번째 스레드가 마지막 측정 iteration 에서만 보고)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class LockCount {
+
+        private LockManager lockManager;
+        private int measuredIterations;
+        private boolean reporter;
+
+        @Setup(Level.Iteration)
+        public void setUp(LockTableBenchmark benchmark, ThreadParams threadParams, IterationParams iterationParams) {
+            lockManager = benchmark.lockManager;
+            boolean measurement = iterationParams.getType() == IterationType.MEASUREMENT;
+            if ( measurement ) {
+                measuredIterations++;
+            }
+            reporter = threadParams.getThreadIndex() == 0 && measurement && measuredIterations == iterationParams.getCount();
+        }
+
+        public long locks() {
+            return reporter ? lockManager.getLockCount() : 0;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long singleThread(LockCount lockCount) {
+        return executeWithRandomUser();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long eightThreads(LockCount lockCount) {
+        return executeWithRandomUser();
+    }
+
+    private long executeWithRandomUser() {
+        long userId = ThreadLocalRandom.current().nextLong(1, users + 1L);
+        return lockManager.executeFunctionWithLock(userId, () -> userId);
+    }
+}
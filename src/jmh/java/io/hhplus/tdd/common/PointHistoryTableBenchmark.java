@@ -0,0 +1,55 @@
+package io.hhplus.tdd.common;
+
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.infrastructure.IndexedPointHistoryRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 내역 수에 따른 PointHistoryTable.selectAllByUserId 조회 시간 (IndexedPointHistoryRepository 와 비교)
+ * - 내역은 100명의 유저에게 고르게 나누어 저장하므로, 한 유저의 조회 결과는 historySize / 100 건입니다.
+ * - 준비 단계의 대량 저장이 지연되지 않도록 지연 시간 모델을 끈(LatencyModel.OFF) 테이블을 사용합니다.
+ *
+ * ./gradlew jmh -Pjmh.includes=PointHistoryTableBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointHistoryTableBenchmark {
+
+    private static final int USERS = 100;
+
+    @Param({"1000", "100000", "1000000"})
+    public int historySize;
+
+    private PointHistoryTable pointHistoryTable;
+    private IndexedPointHistoryRepository indexedPointHistoryRepository;
+
+    @Setup
+    public void setUp() {
+        pointHistoryTable = new PointHistoryTable(LatencyModel.OFF);
+        indexedPointHistoryRepository = new IndexedPointHistoryRepository();
+        for (int i = 0; i < historySize; i++) {
+            long userId = i % USERS + 1;
+            pointHistoryTable.insert(userId, i, TransactionType.CHARGE, i);
+            indexedPointHistoryRepository.insert(userId, i, TransactionType.CHARGE, i);
+        }
+    }
+
+    @Benchmark
+    public Optional<List<PointHistory>> table() {
+        return pointHistoryTable.selectAllByUserId(USERS / 2);
+    }
+
+    @Benchmark
+    public Optional<List<PointHistory>> indexed() {
+        return indexedPointHistoryRepository.selectAllByUserId(USERS / 2);
+    }
+}
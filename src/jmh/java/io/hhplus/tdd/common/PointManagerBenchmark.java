@@ -0,0 +1,64 @@
+package io.hhplus.tdd.common;
+
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import io.hhplus.tdd.infrastructure.IndexedPointHistoryRepository;
+import io.hhplus.tdd.infrastructure.LockFreeUserPointRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointManager.chargePoints/usePoints 처리량 (throttle 없는 저장소 사용)
+ * - UserPointTable/PointHistoryTable 의 지연 시간 모델(point.latency)과 무관하도록, 같은 인터페이스의 LockFreeUserPointRepository/IndexedPointHistoryRepository 로 측정합니다.
+ * - 내역이 계속 쌓이지 않도록 iteration 마다 저장소를 새로 만들고, 사용할 잔고를 미리 충전합니다.
+ *
+ * ./gradlew jmh -Pjmh.includes=PointManagerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointManagerBenchmark {
+
+    @Param({"1000", "100000"})
+    public int users;
+
+    private PointManager pointManager;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        pointManager = new PointManager(new LockFreeUserPointRepository(users * 2), new IndexedPointHistoryRepository());
+        for (long userId = 1; userId <= users; userId++) {
+            pointManager.chargePoints(userId, Long.MAX_VALUE / 4);
+        }
+    }
+
+    @Benchmark
+    public UserPoint charge() {
+        return pointManager.chargePoints(randomUser(), 100L);
+    }
+
+    @Benchmark
+    public UserPoint use() {
+        return pointManager.usePoints(randomUser(), 100L);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UserPoint chargeEightThreads() {
+        return pointManager.chargePoints(randomUser(), 100L);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UserPoint useEightThreads() {
+        return pointManager.usePoints(randomUser(), 100L);
+    }
+
+    private long randomUser() {
+        return ThreadLocalRandom.current().nextLong(1, users + 1L);
+    }
+}
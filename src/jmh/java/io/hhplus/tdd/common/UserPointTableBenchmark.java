@@ -0,0 +1,66 @@
+package io.hhplus.tdd.common;
+
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import io.hhplus.tdd.infrastructure.LockFreeUserPointRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserPointTable 조회/저장 시간 (LockFreeUserPointRepository 와 비교)
+ * - latency=UNIFORM 은 기본 지연(조회 최대 200ms, 저장 최대 300ms)을 포함해 평균 100ms/150ms 가 측정되며,
+ *   latency=OFF 는 지연을 제외한 테이블 자체 비용입니다.
+ *
+ * ./gradlew jmh -Pjmh.includes=UserPointTableBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class UserPointTableBenchmark {
+
+    private static final int USERS = 10_000;
+
+    @Param({"OFF", "UNIFORM"})
+    public String latency;
+
+    private UserPointTable userPointTable;
+    private LockFreeUserPointRepository lockFreeUserPointRepository;
+
+    @Setup
+    public void setUp() {
+        userPointTable = "OFF".equals(latency) ? new UserPointTable(LatencyModel.OFF, LatencyModel.OFF) : new UserPointTable();
+        lockFreeUserPointRepository = new LockFreeUserPointRepository(USERS * 2);
+        for (long userId = 1; userId <= USERS; userId++) {
+            lockFreeUserPointRepository.insertOrUpdate(userId, 1000L);
+        }
+    }
+
+    @Benchmark
+    public Optional<UserPoint> tableSelect() {
+        return userPointTable.selectById(randomUser());
+    }
+
+    @Benchmark
+    public UserPoint tableInsertOrUpdate() {
+        return userPointTable.insertOrUpdate(randomUser(), 1000L);
+    }
+
+    @Benchmark
+    public Optional<UserPoint> lockFreeSelect() {
+        return lockFreeUserPointRepository.selectById(randomUser());
+    }
+
+    @Benchmark
+    public UserPoint lockFreeInsertOrUpdate() {
+        return lockFreeUserPointRepository.insertOrUpdate(randomUser(), 1000L);
+    }
+
+    private static long randomUser() {
+        return ThreadLocalRandom.current().nextLong(1, USERS + 1L);
+    }
+}
@@ -0,0 +1,101 @@
+package io.hhplus.tdd.controller;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내역 조회 요청 1건의 로그 기록 비용 (이전 방식과 비교)
+ * - legacy: String.format 으로 메세지를 만들고 내역 목록 전체를 toString() 으로 출력 (이전 PointController.findHistory)
+ * - summarized: 파라미터 메세지로 건수만 출력 (현재 PointController.findHistory)
+ * - appender=SYNC 는 요청 스레드에서 바로 출력, ASYNC 는 logback-spring.xml 과 같은 설정의 AsyncAppender 를 거쳐 출력 (출력 대상은 버림)
+ * 요청당 할당량은 gc 프로파일러의 gc.alloc.rate.norm(B/op)으로 확인합니다.
+ *
+ * ./gradlew jmh -Pjmh.includes=PointControllerLoggingBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointControllerLoggingBenchmark {
+
+    private static final long USER_ID = 1L;
+
+    @Param({"10", "1000", "100000"})
+    public int historySize;
+
+    @Param({"SYNC", "ASYNC"})
+    public String appender;
+
+    private LoggerContext loggerContext;
+    private Logger logger;
+    private List<PointHistory> histories;
+
+    @Setup
+    public void setUp() {
+        histories = new ArrayList<>(historySize);
+        for (int i = 0; i < historySize; i++) {
+            histories.add(new PointHistory(i + 1L, USER_ID, i, TransactionType.CHARGE, System.currentTimeMillis()));
+        }
+
+        loggerContext = new LoggerContext();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d %5level [%thread] %logger : %msg%n");
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> output = new OutputStreamAppender<>();
+        output.setContext(loggerContext);
+        output.setEncoder(encoder);
+        output.setOutputStream(OutputStream.nullOutputStream());
+        output.start();
+
+        logger = loggerContext.getLogger(PointController.class);
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender("ASYNC".equals(appender) ? async(output) : output);
+    }
+
+    private Appender<ILoggingEvent> async(Appender<ILoggingEvent> output) {
+        AsyncAppender asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(loggerContext);
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setDiscardingThreshold(0);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.setIncludeCallerData(false);
+        asyncAppender.addAppender(output);
+        asyncAppender.start();
+        return asyncAppender;
+    }
+
+    @TearDown
+    public void tearDown() {
+        loggerContext.stop();
+    }
+
+    @Benchmark
+    public void legacy() {
+        logger.info(String.format("id %d번 유저가 포인트 충전/사용 내역을 조회했습니다. :: %s", USER_ID, histories.toString()));
+    }
+
+    @Benchmark
+    public void summarized() {
+        if ( logger.isInfoEnabled() ) {
+            logger.info("id {}번 유저가 포인트 충전/사용 내역 {}건을 조회했습니다.", USER_ID, histories.size());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.hhplus.tdd.domain.point;
+
+import io.hhplus.tdd.common.LockManager;
+import io.hhplus.tdd.common.PointCommandDispatcher;
+import io.hhplus.tdd.common.PointExecutionProperties;
+import io.hhplus.tdd.common.PointManager;
+import io.hhplus.tdd.common.StripedBalanceProperties;
+import io.hhplus.tdd.common.StripedChargeBalances;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import io.hhplus.tdd.infrastructure.IndexedPointHistoryRepository;
+import io.hhplus.tdd.infrastructure.LockFreeUserPointRepository;
+import io.hhplus.tdd.persistence.PointJournal;
+import io.micrometer.core.instrument.Metrics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 유저에게 충전이 몰릴 때 LOCK 모드 PointService.chargePoints 처리량 (1/8 스레드)
+ * - striped=false 는 모든 충전이 유저의 락을 거치고, true 는 point.striped-balance 와 같이 sub-counter(LongAdder)에 더합니다.
+ * - 내역이 계속 쌓이지 않도록 iteration 마다 저장소를 새로 만듭니다.
+ *
+ * ./gradlew jmh -Pjmh.includes=HotAccountChargeBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HotAccountChargeBenchmark {
+
+    private static final long HOT_USER_ID = 1L;
+
+    @Param({"false", "true"})
+    public boolean striped;
+
+    private PointService pointService;
+    private PointCommandDispatcher pointCommandDispatcher;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        StripedBalanceProperties stripedBalanceProperties = new StripedBalanceProperties();
+        if ( striped ) {
+            stripedBalanceProperties.setUserIds(Set.of(HOT_USER_ID));
+        }
+        PointExecutionProperties executionProperties = new PointExecutionProperties();
+        PointManager pointManager = new PointManager(new LockFreeUserPointRepository(1024), new IndexedPointHistoryRepository(),
+                PointJournal.NONE, Metrics.globalRegistry, new StripedChargeBalances(stripedBalanceProperties));
+        pointCommandDispatcher = new PointCommandDispatcher(pointManager, executionProperties);
+        pointService = new PointService(new LockManager(), pointManager, pointCommandDispatcher, executionProperties);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        pointService.shutdown();
+        pointCommandDispatcher.shutdown();
+    }
+
+    @Benchmark
+    public UserPoint charge() {
+        return pointService.chargePoints(HOT_USER_ID, 100L);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UserPoint chargeEightThreads() {
+        return pointService.chargePoints(HOT_USER_ID, 100L);
+    }
+}
@@ -0,0 +1,74 @@
+package io.hhplus.tdd.domain.point;
+
+import io.hhplus.tdd.common.LockManager;
+import io.hhplus.tdd.common.PointCommandDispatcher;
+import io.hhplus.tdd.common.PointExecutionProperties;
+import io.hhplus.tdd.common.PointManager;
+import io.hhplus.tdd.common.PointThreads;
+import io.hhplus.tdd.infrastructure.IndexedPointHistoryRepository;
+import io.hhplus.tdd.infrastructure.UserPointRepositoryImplement;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 동시 요청 수에 따른 LOCK 모드 포인트 충전 처리 시간 비교 (플랫폼 스레드 vs 가상 스레드)
+ * - 요청 처리 스레드를 Tomcat 기본값(최대 200개)의 플랫폼 스레드 풀, 또는 요청마다 가상 스레드로 모사합니다.
+ * - 서로 다른 유저에게 requests 건의 충전을 동시에 요청하고 모두 끝날 때까지의 시간을 측정합니다.
+ * - UserPointTable 의 throttle(sleep) 이 포함된 기본 저장소를 사용하므로, 플랫폼 스레드는 requests / 200 배로 시간이 늘어납니다.
+ *
+ * ./gradlew jmh -Pjmh.includes=PointPipelineLoadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class PointPipelineLoadBenchmark {
+
+    private static final int SERVLET_THREADS = 200;
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"200", "1000", "4000"})
+    public int requests;
+
+    private final AtomicLong nextUserId = new AtomicLong(1);
+    private PointService pointService;
+    private PointCommandDispatcher pointCommandDispatcher;
+    private ExecutorService requestExecutor;
+
+    @Setup
+    public void setUp() {
+        PointExecutionProperties executionProperties = new PointExecutionProperties();
+        executionProperties.setVirtualThreads(virtualThreads);
+        PointManager pointManager = new PointManager(new UserPointRepositoryImplement(), new IndexedPointHistoryRepository());
+        pointCommandDispatcher = new PointCommandDispatcher(pointManager, executionProperties);
+        pointService = new PointService(new LockManager(), pointManager, pointCommandDispatcher, executionProperties);
+        requestExecutor = PointThreads.newExecutor("load-request-", SERVLET_THREADS, virtualThreads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        requestExecutor.shutdown();
+        pointService.shutdown();
+        pointCommandDispatcher.shutdown();
+    }
+
+    @Benchmark
+    public void chargeConcurrently() {
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            long userId = nextUserId.getAndIncrement();
+            tasks.add(CompletableFuture.runAsync(() -> pointService.chargePoints(userId, 1000L), requestExecutor));
+        }
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+    }
+}
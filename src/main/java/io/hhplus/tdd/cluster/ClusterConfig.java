@@ -0,0 +1,55 @@
+package io.hhplus.tdd.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+
+/**
+ * 다중 노드 구성 (point.cluster.enabled=true, servlet 스택)
+ * point.cluster.nodes 의 노드로 ring 을 만들고, 다른 노드가 소유한 유저의 요청을 전달하는 필터를 /points/* 에 등록합니다.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+public class ClusterConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterConfig.class);
+
+    @Bean
+    public ConsistentHashRing consistentHashRing(ClusterProperties clusterProperties) {
+        if ( !clusterProperties.getNodes().containsKey(clusterProperties.getNodeId()) ) {
+            throw new IllegalArgumentException("point.cluster.nodes 에 이 노드(" + clusterProperties.getNodeId() + ")가 없습니다.");
+        }
+        ConsistentHashRing ring = new ConsistentHashRing(clusterProperties.getNodes().keySet(), clusterProperties.getVirtualNodes());
+        logger.info(String.format("%s 노드로 %d개 노드의 ring 에 참여합니다. %s", clusterProperties.getNodeId(),
+                ring.nodes().size(), clusterProperties.getNodes()));
+        return ring;
+    }
+
+    @Bean
+    public FilterRegistrationBean<PointForwardingFilter> pointForwardingFilter(ClusterProperties clusterProperties,
+                                                                                ConsistentHashRing consistentHashRing,
+                                                                                ObjectMapper objectMapper) {
+        // HttpURLConnection 기반 요청은 PATCH(충전/사용)를 보낼 수 없으므로 java.net.http.HttpClient 사용
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(clusterProperties.getForwardTimeout())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(clusterProperties.getForwardTimeout());
+        RestClient restClient = RestClient.builder().requestFactory(requestFactory).build();
+
+        FilterRegistrationBean<PointForwardingFilter> registration = new FilterRegistrationBean<>(new PointForwardingFilter(
+                clusterProperties.getNodeId(), consistentHashRing, clusterProperties.getNodes(), restClient, objectMapper));
+        registration.addUrlPatterns("/points/*");
+        return registration;
+    }
+}
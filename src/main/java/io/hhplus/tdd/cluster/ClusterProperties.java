@@ -0,0 +1,41 @@
+package io.hhplus.tdd.cluster;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 다중 노드 설정 (application.yml 의 point.cluster.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.cluster")
+public class ClusterProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * 이 노드의 id (nodes 에 포함되어야 함)
+     */
+    private String nodeId = "node-1";
+
+    /**
+     * ring 을 구성하는 전체 노드 (노드 id → base url, 예: node-2: http://localhost:8081)
+     * 모든 노드에 같은 목록을 설정해야 같은 유저를 같은 노드가 소유합니다.
+     */
+    private Map<String, String> nodes = new LinkedHashMap<>();
+
+    /**
+     * 노드 하나가 ring 에 두는 지점 수 (클수록 유저가 고르게 분산)
+     */
+    private int virtualNodes = 160;
+
+    /**
+     * 소유 노드로 요청을 전달할 때의 연결/응답 대기 시간
+     */
+    private Duration forwardTimeout = Duration.ofSeconds(5);
+}
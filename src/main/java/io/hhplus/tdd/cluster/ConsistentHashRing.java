@@ -0,0 +1,85 @@
+package io.hhplus.tdd.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * userId 를 소유 노드에 대응시키는 consistent hash ring
+ * - 노드마다 virtualNodes 개의 지점을 ring 에 두고, userId 해시 이후의 첫 지점을 가진 노드가 소유합니다.
+ * - 노드가 추가/제거되어도 해당 노드 구간의 유저만 소유 노드가 바뀝니다.
+ * - 지점 위치는 노드 id 의 MD5 로 정하므로, 같은 노드 목록이면 모든 노드가 같은 ring 을 만듭니다.
+ */
+public class ConsistentHashRing {
+
+    private final long[] points;
+    private final String[] owners;
+    private final Set<String> nodes;
+
+    public ConsistentHashRing(Collection<String> nodeIds, int virtualNodes) {
+        if ( nodeIds.isEmpty() || virtualNodes <= 0 ) {
+            throw new IllegalArgumentException("ring 에는 1개 이상의 노드와 1개 이상의 가상 노드가 필요합니다.");
+        }
+        this.nodes = Set.copyOf(new LinkedHashSet<>(nodeIds));
+
+        Entry[] entries = new Entry[nodes.size() * virtualNodes];
+        int index = 0;
+        for (String nodeId : nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                entries[index++] = new Entry(hash(nodeId + "#" + i), nodeId);
+            }
+        }
+        // 지점이 겹치면 노드 id 순으로 정렬해 모든 노드에서 같은 소유자가 되도록 함
+        Arrays.sort(entries, (left, right) -> left.point != right.point
+                ? Long.compare(left.point, right.point)
+                : left.nodeId.compareTo(right.nodeId));
+        this.points = new long[entries.length];
+        this.owners = new String[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            points[i] = entries[i].point;
+            owners[i] = entries[i].nodeId;
+        }
+    }
+
+    public String ownerOf(long userId) {
+        int index = Arrays.binarySearch(points, hash(userId));
+        if ( index < 0 ) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    public Set<String> nodes() {
+        return nodes;
+    }
+
+    /**
+     * userId 를 ring 위의 위치로 변환 (splitmix64 finalizer)
+     */
+    static long hash(long userId) {
+        long hash = userId + 0x9E3779B97F4A7C15L;
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+
+    static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            long hash = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                hash = (hash << 8) | (digest[i] & 0xFF);
+            }
+            return hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(long point, String nodeId) {
+    }
+}
@@ -0,0 +1,346 @@
+package io.hhplus.tdd.cluster;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.domain.point.dto.PointOperation;
+import io.hhplus.tdd.domain.point.dto.PointOperationResult;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpConnectTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 다른 노드가 소유한 유저의 요청을 소유 노드로 전달하는 필터 (point.cluster.enabled)
+ * - /points/{id}/** 요청은 ring 에서 id 의 소유 노드를 찾아, 이 노드가 아니면 요청을 그대로 전달하고 응답(상태, 본문)을 돌려줍니다.
+ * - /points/batch 요청은 명령을 소유 노드별로 나눠 각 노드에서 처리한 뒤 요청 순서대로 결과를 합칩니다.
+ * - 한 유저의 충전/사용은 항상 소유 노드의 LockManager(또는 mailbox)를 거치므로 노드가 여러 개여도 유저별 직렬화가 유지됩니다.
+ * - 전달한 요청에는 FORWARDED_HEADER 를 붙이며, 이 헤더가 있는 요청은 다시 전달하지 않습니다. (노드 간 설정이 달라도 전달이 반복되지 않음)
+ *   헤더가 있어도 이 노드가 소유하지 않은 유저의 요청은 처리하지 않고 421(Misdirected Request)로 거절하므로,
+ *   클라이언트가 헤더를 붙여도 소유 노드를 우회할 수 없습니다.
+ * - 전달한 충전/사용은 멱등하지 않습니다. 소유 노드에 연결하지 못했으면 503(처리되지 않음)으로,
+ *   요청을 보낸 뒤 응답을 받지 못했으면(읽기 timeout 등) 504(처리 여부 알 수 없음)로 응답하며,
+ *   504 를 받은 클라이언트는 잔고/내역을 확인한 뒤 재시도해야 합니다. (그대로 재시도하면 중복 반영될 수 있음)
+ */
+public class PointForwardingFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PointForwardingFilter.class);
+
+    public static final String FORWARDED_HEADER = "X-Point-Forwarded-By";
+
+    private static final Pattern USER_PATH = Pattern.compile("^/points/(\\d+)(/.*)?$");
+    private static final String BATCH_PATH = "/points/batch";
+    private static final int SC_MISDIRECTED_REQUEST = 421;
+
+    private final String nodeId;
+    private final ConsistentHashRing ring;
+    private final Map<String, String> nodeUrls;
+    private final RestClient restClient;
+    private final ObjectMapper objectMapper;
+
+    public PointForwardingFilter(String nodeId, ConsistentHashRing ring, Map<String, String> nodeUrls,
+                                 RestClient restClient, ObjectMapper objectMapper) {
+        this.nodeId = nodeId;
+        this.ring = ring;
+        this.nodeUrls = Map.copyOf(nodeUrls);
+        this.restClient = restClient;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean forwarded = request.getHeader(FORWARDED_HEADER) != null;
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if ( BATCH_PATH.equals(path) && HttpMethod.POST.matches(request.getMethod()) ) {
+            if ( forwarded ) {
+                acceptForwardedBatch(request, response, filterChain);
+            } else {
+                dispatchBatch(request, response, filterChain);
+            }
+            return;
+        }
+
+        Matcher matcher = USER_PATH.matcher(path);
+        String owner = matcher.matches() ? ownerOf(matcher.group(1)) : nodeId;
+        if ( owner.equals(nodeId) ) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if ( forwarded ) {
+            rejectMisdirected(response, owner);
+            return;
+        }
+        forward(owner, request, path, response);
+    }
+
+    /**
+     * 전달된 일괄 처리는 모든 명령이 이 노드의 유저일 때만 처리
+     */
+    private void acceptForwardedBatch(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        byte[] body = request.getInputStream().readAllBytes();
+        try {
+            List<PointOperation> operations = objectMapper.readValue(body, new TypeReference<List<PointOperation>>() {
+            });
+            for (PointOperation operation : operations) {
+                String owner = ring.ownerOf(operation.userId());
+                if ( !owner.equals(nodeId) ) {
+                    rejectMisdirected(response, owner);
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            // 본문을 해석할 수 없으면 컨트롤러의 기존 오류 응답을 따름
+        }
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    /**
+     * id 가 long 범위를 벗어나면 이 노드에서 처리 (컨트롤러가 오류 응답)
+     */
+    private String ownerOf(String userId) {
+        try {
+            return ring.ownerOf(Long.parseLong(userId));
+        } catch (NumberFormatException e) {
+            return nodeId;
+        }
+    }
+
+    /**
+     * 요청을 소유 노드에 그대로 보내고, 소유 노드의 응답 상태와 본문을 그대로 돌려줌 (스트리밍 응답도 받는 대로 전달)
+     */
+    private void forward(String owner, HttpServletRequest request, String path, HttpServletResponse response) throws IOException {
+        String query = request.getQueryString();
+        URI target = URI.create(nodeUrls.get(owner) + path + (query == null ? "" : "?" + query));
+        byte[] body = request.getInputStream().readAllBytes();
+        try {
+            RestClient.RequestBodySpec forwarded = restClient.method(HttpMethod.valueOf(request.getMethod()))
+                    .uri(target)
+                    .headers(headers -> {
+                        copyHeader(request, headers, HttpHeaders.CONTENT_TYPE);
+                        copyHeader(request, headers, HttpHeaders.ACCEPT);
+                        headers.set(FORWARDED_HEADER, nodeId);
+                    });
+            if ( body.length > 0 ) {
+                forwarded.body(body);
+            }
+            forwarded.exchange((clientRequest, clientResponse) -> {
+                response.setStatus(clientResponse.getStatusCode().value());
+                MediaType contentType = clientResponse.getHeaders().getContentType();
+                if ( contentType != null ) {
+                    response.setContentType(contentType.toString());
+                }
+                clientResponse.getBody().transferTo(response.getOutputStream());
+                return null;
+            });
+        } catch (RestClientException e) {
+            logger.warn(String.format("%s 노드로 요청(%s %s)을 전달하지 못했습니다.", owner, request.getMethod(), path), e);
+            if ( notSent(e) || HttpMethod.GET.matches(request.getMethod()) ) {
+                writeError(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, owner + " 노드에 연결할 수 없습니다.");
+            } else {
+                writeError(response, HttpServletResponse.SC_GATEWAY_TIMEOUT,
+                        owner + " 노드의 처리 결과를 확인할 수 없습니다. 잔고를 확인한 뒤 다시 시도해 주세요.");
+            }
+        }
+    }
+
+    /**
+     * 소유 노드에 연결하지 못해 요청이 전송되지 않은 경우 (이 경우에만 처리되지 않았음이 확실)
+     */
+    private static boolean notSent(RestClientException e) {
+        return e instanceof ResourceAccessException
+                && (e.getCause() instanceof ConnectException || e.getCause() instanceof HttpConnectTimeoutException);
+    }
+
+    /**
+     * 명령을 소유 노드별로 나눠, 이 노드의 명령은 컨트롤러로 처리하고 다른 노드의 명령은 해당 노드의 /points/batch 로 전달
+     * 본문을 해석할 수 없으면 그대로 컨트롤러에 넘겨 기존 오류 응답을 따릅니다.
+     */
+    private void dispatchBatch(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        byte[] body = request.getInputStream().readAllBytes();
+        List<PointOperation> operations;
+        try {
+            operations = objectMapper.readValue(body, new TypeReference<List<PointOperation>>() {
+            });
+        } catch (IOException e) {
+            filterChain.doFilter(new CachedBodyRequest(request, body), response);
+            return;
+        }
+
+        Map<String, List<Integer>> indexesByOwner = new LinkedHashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            indexesByOwner.computeIfAbsent(ring.ownerOf(operations.get(i).userId()), key -> new ArrayList<>()).add(i);
+        }
+        if ( indexesByOwner.isEmpty() || indexesByOwner.keySet().equals(Set.of(nodeId)) ) {
+            filterChain.doFilter(new CachedBodyRequest(request, body), response);
+            return;
+        }
+
+        PointOperationResult[] results = new PointOperationResult[operations.size()];
+        for (Map.Entry<String, List<Integer>> entry : indexesByOwner.entrySet()) {
+            String owner = entry.getKey();
+            List<PointOperation> ownedOperations = entry.getValue().stream().map(operations::get).toList();
+            List<PointOperationResult> ownedResults = owner.equals(nodeId)
+                    ? executeLocally(request, response, ownedOperations, filterChain)
+                    : executeRemotely(owner, ownedOperations);
+            for (int i = 0; i < ownedOperations.size(); i++) {
+                results[entry.getValue().get(i)] = ownedResults == null
+                        ? PointOperationResult.failure(ownedOperations.get(i),
+                                owner + " 노드의 처리 결과를 확인할 수 없습니다. 잔고를 확인한 뒤 다시 시도해 주세요.")
+                        : ownedResults.get(i);
+            }
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Arrays.asList(results));
+    }
+
+    /**
+     * 이 노드의 명령만 담은 본문으로 컨트롤러를 호출하고, 응답 본문은 실제 응답에 쓰지 않고 결과로만 읽음
+     */
+    private List<PointOperationResult> executeLocally(HttpServletRequest request, HttpServletResponse response,
+                                                      List<PointOperation> operations, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper localResponse = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(new CachedBodyRequest(request, objectMapper.writeValueAsBytes(operations)), localResponse);
+        return readResults(localResponse.getStatus(), localResponse.getContentAsByteArray(), operations.size());
+    }
+
+    private List<PointOperationResult> executeRemotely(String owner, List<PointOperation> operations) {
+        try {
+            return restClient.post()
+                    .uri(URI.create(nodeUrls.get(owner) + BATCH_PATH))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(FORWARDED_HEADER, nodeId)
+                    .body(objectMapper.writeValueAsBytes(operations))
+                    .exchange((clientRequest, clientResponse) -> readResults(clientResponse.getStatusCode().value(),
+                            clientResponse.getBody().readAllBytes(), operations.size()));
+        } catch (IOException | RestClientException e) {
+            logger.warn(String.format("%s 노드로 일괄 처리 %d건을 전달하지 못했습니다.", owner, operations.size()), e);
+            return null;
+        }
+    }
+
+    /**
+     * 정상 응답이고 명령 수만큼의 결과가 있을 때만 결과로 사용 (그 외에는 null)
+     */
+    private List<PointOperationResult> readResults(int status, byte[] body, int expected) throws IOException {
+        if ( status != HttpServletResponse.SC_OK ) {
+            return null;
+        }
+        List<PointOperationResult> results = objectMapper.readValue(body, new TypeReference<List<PointOperationResult>>() {
+        });
+        return results.size() == expected ? results : null;
+    }
+
+    private void rejectMisdirected(HttpServletResponse response, String owner) throws IOException {
+        writeError(response, SC_MISDIRECTED_REQUEST, "이 노드가 처리할 수 없는 유저입니다. (" + owner + " 노드가 처리)");
+    }
+
+    private void writeError(HttpServletResponse response, int status, String message) throws IOException {
+        if ( response.isCommitted() ) {
+            return;
+        }
+        response.resetBuffer();
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(String.valueOf(status), message));
+    }
+
+    private static void copyHeader(HttpServletRequest request, HttpHeaders headers, String name) {
+        String value = request.getHeader(name);
+        if ( value != null ) {
+            headers.set(name, value);
+        }
+    }
+
+    /**
+     * 이미 읽은 본문(또는 바꾼 본문)을 다시 읽을 수 있게 하는 요청
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
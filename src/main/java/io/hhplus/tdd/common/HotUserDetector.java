@@ -0,0 +1,155 @@
+package io.hhplus.tdd.common;
+
+import io.hhplus.tdd.domain.point.dto.HotUser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 충전/사용 요청이 몰리는 유저(hot user)를 count-min sketch 로 감지하는 컴포넌트
+ * - 유저별 카운터 대신 depth x width 크기의 고정 배열에 기록하므로, 유저 수와 관계없이 메모리 사용량이 일정합니다.
+ * - 추정치는 행마다 다른 해시로 고른 칸의 최솟값이며, 실제 요청 수보다 작게 추정하지 않습니다. (충돌 시 크게 추정)
+ * - window 마다 모든 칸을 절반으로 줄이므로, 요청이 줄어든 유저는 몇 window 안에 hot user 에서 해제됩니다.
+ * - sampling 건 중 1건만 기록해 같은 칸을 갱신하는 스레드 간 경합을 줄입니다.
+ * - 새 hot user 등록은 promotionLock 안에서 개수를 다시 확인하므로, 동시에 등록되어도 max-hot-users 를 넘지 않습니다.
+ */
+@Component
+public class HotUserDetector {
+
+    public static final HotUserDetector NONE = new HotUserDetector(new HotUserProperties());
+
+    private final boolean enabled;
+    private final int depth;
+    private final int mask;
+    private final int sampling;
+    private final long windowNanos;
+    private final long threshold;
+    private final int maxHotUsers;
+    private final AtomicLongArray cells;
+    private final AtomicLong nextDecayNanos;
+    private final Map<Long, Long> hotUsers = new ConcurrentHashMap<>();
+    private final Lock promotionLock = new ReentrantLock();
+
+    @Autowired
+    public HotUserDetector(HotUserProperties hotUserProperties) {
+        if ( hotUserProperties.getDepth() <= 0 || hotUserProperties.getWidth() <= 0 || hotUserProperties.getSampling() <= 0 ) {
+            throw new IllegalArgumentException("hot user sketch 의 depth, width, sampling 은 양수여야 합니다.");
+        }
+        this.enabled = hotUserProperties.isEnabled();
+        this.depth = hotUserProperties.getDepth();
+        int width = Integer.highestOneBit(hotUserProperties.getWidth() - 1) << 1;
+        this.mask = Math.max(width, 1) - 1;
+        this.sampling = hotUserProperties.getSampling();
+        this.windowNanos = hotUserProperties.getWindow().toNanos();
+        this.threshold = hotUserProperties.getThreshold();
+        this.maxHotUsers = hotUserProperties.getMaxHotUsers();
+        this.cells = new AtomicLongArray(enabled ? depth * (mask + 1) : 0);
+        this.nextDecayNanos = new AtomicLong(System.nanoTime() + windowNanos);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 유저의 충전/사용 요청 1건 기록
+     */
+    public void record(long userId) {
+        if ( !enabled ) {
+            return;
+        }
+        decayIfDue();
+        if ( sampling > 1 && ThreadLocalRandom.current().nextInt(sampling) != 0 ) {
+            return;
+        }
+
+        long minimum = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            minimum = Math.min(minimum, cells.incrementAndGet(index(row, userId)));
+        }
+        long estimate = minimum * sampling;
+        if ( estimate < threshold ) {
+            return;
+        }
+        // 이미 hot user 면 추정치만 갱신 (window 감쇠로 해제된 유저는 다시 등록 절차를 거침)
+        if ( hotUsers.computeIfPresent(userId, (key, previous) -> estimate) == null && hotUsers.size() < maxHotUsers ) {
+            promote(userId, estimate);
+        }
+    }
+
+    /**
+     * 개수 확인과 등록 사이에 다른 스레드가 등록하지 못하도록 락 안에서 다시 확인
+     * (해제는 개수를 줄이기만 하므로 락 없이 수행)
+     */
+    private void promote(long userId, long estimate) {
+        promotionLock.lock();
+        try {
+            if ( hotUsers.size() < maxHotUsers ) {
+                hotUsers.putIfAbsent(userId, estimate);
+            }
+        } finally {
+            promotionLock.unlock();
+        }
+    }
+
+    public boolean isHot(long userId) {
+        return enabled && hotUsers.containsKey(userId);
+    }
+
+    /**
+     * 최근 요청 수 추정치 (sampling 보정, window 마다 절반으로 감쇠)
+     */
+    public long estimate(long userId) {
+        if ( !enabled ) {
+            return 0;
+        }
+        long minimum = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            minimum = Math.min(minimum, cells.get(index(row, userId)));
+        }
+        return minimum * sampling;
+    }
+
+    /**
+     * 현재 hot user 목록 (추정치 내림차순)
+     */
+    public List<HotUser> hotUsers() {
+        return hotUsers.keySet().stream()
+                .map(userId -> new HotUser(userId, estimate(userId)))
+                .sorted(Comparator.comparingLong(HotUser::estimatedCount).reversed())
+                .toList();
+    }
+
+    /**
+     * window 가 지났으면 한 스레드만 모든 칸을 절반으로 줄이고, 추정치가 threshold 의 절반 미만인 유저를 해제
+     */
+    private void decayIfDue() {
+        long now = System.nanoTime();
+        long due = nextDecayNanos.get();
+        if ( now - due < 0 || !nextDecayNanos.compareAndSet(due, now + windowNanos) ) {
+            return;
+        }
+        for (int i = 0; i < cells.length(); i++) {
+            cells.getAndUpdate(i, count -> count >>> 1);
+        }
+        hotUsers.replaceAll((userId, previous) -> estimate(userId));
+        hotUsers.values().removeIf(estimate -> estimate < threshold / 2);
+    }
+
+    private int index(int row, long userId) {
+        long hash = (userId + row * 0x632BE59BD9B4E019L) * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 29;
+        hash *= 0xBF58476D1CE4E5B9L;
+        hash ^= hash >>> 32;
+        return row * (mask + 1) + ((int) hash & mask);
+    }
+}
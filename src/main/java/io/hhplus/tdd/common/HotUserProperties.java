@@ -0,0 +1,52 @@
+package io.hhplus.tdd.common;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 요청이 몰리는 유저(hot user) 감지와 묶음 처리 설정 (application.yml 의 point.hot-user.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.hot-user")
+public class HotUserProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * count-min sketch 의 행 수 (해시 함수 수)와 행당 칸 수 (2의 거듭제곱으로 올림)
+     */
+    private int depth = 4;
+
+    private int width = 2048;
+
+    /**
+     * N 건 중 1건만 sketch 에 기록 (1 이면 모두 기록), 추정치는 N 을 곱해 보정합니다.
+     */
+    private int sampling = 4;
+
+    /**
+     * 이 주기마다 sketch 의 모든 칸을 절반으로 줄여 최근 요청에 가중치를 둠
+     */
+    private Duration window = Duration.ofSeconds(1);
+
+    /**
+     * 추정 요청 수가 이 값 이상이면 hot user 로 판단하고, 절반 미만으로 떨어지면 해제
+     */
+    private long threshold = 200;
+
+    /**
+     * 동시에 hot user 로 관리할 최대 유저 수
+     */
+    private int maxHotUsers = 64;
+
+    /**
+     * hot user 의 충전/사용 명령을 모으는 시간과 묶음 처리 worker 스레드 수 (LOCK 모드)
+     */
+    private Duration batchWindow = Duration.ofMillis(2);
+
+    private int workers = 2;
+}
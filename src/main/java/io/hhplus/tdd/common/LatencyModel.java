@@ -0,0 +1,91 @@
+package io.hhplus.tdd.common;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 저장소 호출마다 적용할 지연 시간 모델 (UserPointTable, PointHistoryTable 의 throttle)
+ * - 난수는 스레드별 ThreadLocalRandom 을 사용하므로 여러 스레드가 같은 난수 상태를 두고 경합하지 않습니다.
+ * - 대기 중 인터럽트는 무시하고 바로 반환합니다. (기존 throttle 과 같은 동작)
+ */
+@FunctionalInterface
+public interface LatencyModel {
+
+    LatencyModel OFF = () -> 0L;
+
+    /**
+     * 이번 호출에 적용할 지연 시간 (ns)
+     */
+    long nextDelayNanos();
+
+    default void pause() {
+        long delayNanos = nextDelayNanos();
+        if ( delayNanos <= 0 ) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(delayNanos);
+        } catch (InterruptedException ignored) {
+
+        }
+    }
+
+    static LatencyModel fixed(Duration delay) {
+        long delayNanos = delay.toNanos();
+        return () -> delayNanos;
+    }
+
+    /**
+     * 0 이상 max 미만의 균등 분포 (기존 throttle 과 같은 분포)
+     */
+    static LatencyModel uniform(Duration max) {
+        long maxNanos = max.toNanos();
+        if ( maxNanos <= 0 ) {
+            return OFF;
+        }
+        return () -> ThreadLocalRandom.current().nextLong(maxNanos);
+    }
+
+    /**
+     * 중앙값이 median, 99 백분위수가 p99 인 로그 정규 분포 (드물게 긴 지연이 발생하는 실제 저장소 모사)
+     */
+    static LatencyModel logNormal(Duration median, Duration p99) {
+        if ( median.isNegative() || median.isZero() || p99.compareTo(median) < 0 ) {
+            throw new IllegalArgumentException("로그 정규 분포의 중앙값은 양수이고 p99 는 중앙값 이상이어야 합니다.");
+        }
+        // p99 = exp(mu + z(0.99) * sigma)
+        double mu = Math.log(median.toNanos());
+        double sigma = (Math.log(p99.toNanos()) - mu) / 2.3263478740408408;
+        return () -> (long) Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian());
+    }
+
+    /**
+     * 기록된 지연 시간을 순서대로 반복 재생
+     * trace 파일은 한 줄에 지연 시간 하나(ms, 소수 허용)이며, 빈 줄과 # 으로 시작하는 줄은 무시합니다.
+     */
+    static LatencyModel trace(Path path) {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        long[] delays = lines.stream()
+                .map(String::strip)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .mapToLong(line -> (long) (Double.parseDouble(line) * 1_000_000))
+                .toArray();
+        if ( delays.length == 0 ) {
+            throw new IllegalArgumentException(path + " 에 기록된 지연 시간이 없습니다.");
+        }
+        AtomicLong cursor = new AtomicLong();
+        return () -> delays[(int) Math.floorMod(cursor.getAndIncrement(), (long) delays.length)];
+    }
+}
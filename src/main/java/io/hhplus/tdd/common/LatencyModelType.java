@@ -0,0 +1,13 @@
+package io.hhplus.tdd.common;
+
+/**
+ * 저장소 지연 시간 모델 종류 (LatencyModel)
+ * - OFF : 지연 없음 (성능 기준선 측정용)
+ * - FIXED : 항상 delay 만큼 지연
+ * - UNIFORM : 0 이상 max 미만 균등 분포 (기존 throttle)
+ * - LOG_NORMAL : 중앙값 median, 99 백분위수 p99 인 로그 정규 분포
+ * - TRACE : trace 파일에 기록된 지연 시간을 순서대로 반복
+ */
+public enum LatencyModelType {
+    OFF, FIXED, UNIFORM, LOG_NORMAL, TRACE
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.common;
+
+/**
+ * 락 획득 방식
+ * - FAIL_FAST : 다른 요청이 락을 점유 중이면 즉시 실패
+ * - TIMED : 지정된 시간(lock.timeout)까지 대기 후 실패
+ * - FAIR : 지정된 시간까지 대기하되, 먼저 대기한 요청부터 순서대로 락 획득
+ */
+public enum LockAcquisitionMode {
+    FAIL_FAST, TIMED, FAIR
+}
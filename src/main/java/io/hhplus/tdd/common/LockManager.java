@@ -1,32 +1,132 @@
 package io.hhplus.tdd.common;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
+/**
+ * userId 기준 Lock 관리 컴포넌트
+ * java.util.concurrent 의 Lock 만 사용하므로 가상 스레드에서 락 대기 시 carrier 스레드를 점유(pinning)하지 않습니다.
+ * (synchronized 블록 안에서 대기하거나 sleep 하는 코드를 추가하지 말 것)
+ * 대기/보유 시간은 point.lock.wait(outcome=acquired|rejected), point.lock.hold 타이머와 point.lock.rejected 카운터로 기록합니다.
+ */
 @Component
 public class LockManager {
     private final Map<String, Lock> lockMap = new ConcurrentHashMap<>();
+    private final LockTable lockTable;
+    private final LockAcquisitionMode mode;
+    private final long timeoutNanos;
+    private final LockMetrics metrics;
+    private final Timer acquiredWaitTimer;
+    private final Timer rejectedWaitTimer;
+    private final Timer holdTimer;
+    private final Counter rejectedCounter;
+
+    public LockManager() {
+        this(new LockProperties());
+    }
+
+    public LockManager(LockProperties lockProperties) {
+        this(lockProperties, Metrics.globalRegistry);
+    }
+
+    @Autowired
+    public LockManager(LockProperties lockProperties, MeterRegistry meterRegistry) {
+        this.mode = lockProperties.getMode();
+        this.timeoutNanos = lockProperties.getTimeout().toNanos();
+        this.metrics = new LockMetrics(mode);
+        this.acquiredWaitTimer = waitTimer(meterRegistry, "acquired");
+        this.rejectedWaitTimer = waitTimer(meterRegistry, "rejected");
+        this.holdTimer = Timer.builder("point.lock.hold")
+                .description("락 보유 시간")
+                .tag("mode", mode.name())
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("point.lock.rejected")
+                .description("락 획득 실패 횟수")
+                .tag("mode", mode.name())
+                .register(meterRegistry);
+        boolean fair = mode == LockAcquisitionMode.FAIR;
+        this.lockTable = switch (lockProperties.getTable()) {
+            case MAP -> new MapLockTable(lockMap, fair);
+            case STRIPED -> new StripedLockTable(lockProperties.getStripes(), fair);
+            case REF_COUNTED -> new RefCountedLockTable(fair);
+        };
+    }
 
     public <T> T executeFunctionWithLock(long userId, Supplier<T> function) throws RuntimeException {
-        Lock lock = lockMap.computeIfAbsent(String.valueOf(userId), k -> new ReentrantLock());
+        Lock lock = lockTable.lockFor(userId);
         try {
-            boolean acquired = lock.tryLock();
+            boolean acquired = acquire(lock);
             if (!acquired) {
                 throw new TimeoutException("지정된 락 획득 시도 시간을 초과했습니다.");
             }
+            long acquiredAt = System.nanoTime();
             try {
                 return function.get();
             } finally {
+                long holdNanos = System.nanoTime() - acquiredAt;
                 lock.unlock();
+                metrics.recordReleased(holdNanos);
+                holdTimer.record(holdNanos, TimeUnit.NANOSECONDS);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("락 획득 대기 중 인터럽트가 발생했습니다.");
         } catch (Exception e) {
             throw new RuntimeException(e.getMessage());
+        } finally {
+            lockTable.release(userId, lock);
         }
     }
+
+    public LockMetrics.Snapshot getMetrics() {
+        return metrics.snapshot();
+    }
+
+    /**
+     * 현재 보관 중인 Lock 개수
+     */
+    public int getLockCount() {
+        return lockTable.size();
+    }
+
+    /**
+     * FAIL_FAST 는 대기 없이 즉시 시도하고, TIMED/FAIR 는 timeout 까지 대기합니다.
+     * (공정 락이라도 시간 제한 없는 tryLock()은 대기열을 무시하므로 FAIR 는 반드시 시간 제한 tryLock 을 사용)
+     */
+    private boolean acquire(Lock lock) throws InterruptedException {
+        long start = System.nanoTime();
+        boolean acquired = switch (mode) {
+            case FAIL_FAST -> lock.tryLock();
+            case TIMED, FAIR -> lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+        };
+        long waitNanos = System.nanoTime() - start;
+        if (acquired) {
+            metrics.recordAcquired(waitNanos);
+            acquiredWaitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+        } else {
+            metrics.recordRejected(waitNanos);
+            rejectedWaitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+            rejectedCounter.increment();
+        }
+        return acquired;
+    }
+
+    private Timer waitTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("point.lock.wait")
+                .description("락 획득 대기 시간")
+                .tag("mode", mode.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 }
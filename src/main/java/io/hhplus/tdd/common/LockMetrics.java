@@ -0,0 +1,74 @@
+package io.hhplus.tdd.common;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 락 획득 방식별 대기 시간, 보유 시간과 실패 횟수 집계
+ */
+public class LockMetrics {
+
+    private final LockAcquisitionMode mode;
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0L);
+    private final LongAdder held = new LongAdder();
+    private final LongAdder totalHoldNanos = new LongAdder();
+    private final LongAccumulator maxHoldNanos = new LongAccumulator(Math::max, 0L);
+
+    public LockMetrics(LockAcquisitionMode mode) {
+        this.mode = mode;
+    }
+
+    void recordAcquired(long waitNanos) {
+        acquired.increment();
+        held.increment();
+        recordWait(waitNanos);
+    }
+
+    void recordReleased(long holdNanos) {
+        held.decrement();
+        totalHoldNanos.add(holdNanos);
+        maxHoldNanos.accumulate(holdNanos);
+    }
+
+    void recordRejected(long waitNanos) {
+        rejected.increment();
+        recordWait(waitNanos);
+    }
+
+    private void recordWait(long waitNanos) {
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulate(waitNanos);
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(mode, acquired.sum(), rejected.sum(), totalWaitNanos.sum(), maxWaitNanos.get(),
+                held.sum(), totalHoldNanos.sum(), maxHoldNanos.get());
+    }
+
+    public record Snapshot(
+            LockAcquisitionMode mode,
+            long acquired,
+            long rejected,
+            long totalWaitNanos,
+            long maxWaitNanos,
+            long held,
+            long totalHoldNanos,
+            long maxHoldNanos
+    ) {
+        public long averageWaitNanos() {
+            long attempts = acquired + rejected;
+            return attempts == 0 ? 0 : totalWaitNanos / attempts;
+        }
+
+        /**
+         * 반납된 락의 평균 보유 시간 (보유 중인 락 제외)
+         */
+        public long averageHoldNanos() {
+            long released = acquired - held;
+            return released <= 0 ? 0 : totalHoldNanos / released;
+        }
+    }
+}
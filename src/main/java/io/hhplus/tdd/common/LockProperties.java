@@ -0,0 +1,30 @@
+package io.hhplus.tdd.common;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.convert.DurationUnit;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * LockManager 설정 (application.yml 의 lock.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lock")
+public class LockProperties {
+
+    private LockAcquisitionMode mode = LockAcquisitionMode.TIMED;
+
+    @DurationUnit(ChronoUnit.SECONDS)
+    private Duration timeout = Duration.ofSeconds(3);
+
+    private LockTableType table = LockTableType.MAP;
+
+    /**
+     * table 이 STRIPED 일 때 사용할 Lock 개수 (2의 거듭제곱으로 올림)
+     */
+    private int stripes = 1024;
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.common;
+
+import java.util.concurrent.locks.Lock;
+
+/**
+ * userId 별 Lock 을 보관하는 저장소
+ * lockFor 로 얻은 Lock 은 사용(unlock) 후 반드시 release 로 반납해야 합니다.
+ */
+public interface LockTable {
+
+    Lock lockFor(long userId);
+
+    void release(long userId, Lock lock);
+
+    /**
+     * 현재 보관 중인 Lock 개수
+     */
+    int size();
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.common;
+
+/**
+ * LockTable 구현 방식
+ * - MAP : userId 별 Lock 을 생성 후 계속 보관 (기존 방식)
+ * - STRIPED : 고정 크기(2의 거듭제곱) Lock 배열을 userId 해시로 나누어 사용
+ * - REF_COUNTED : userId 별 Lock 을 사용 중인 요청 수만큼만 보관하고, 사용이 끝나면 제거
+ */
+public enum LockTableType {
+    MAP, STRIPED, REF_COUNTED
+}
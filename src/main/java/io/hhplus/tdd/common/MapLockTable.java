@@ -0,0 +1,34 @@
+package io.hhplus.tdd.common;
+
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * userId 문자열을 키로 Lock 을 생성해 보관하는 LockTable
+ * 한 번 생성된 Lock 은 제거되지 않습니다.
+ */
+public class MapLockTable implements LockTable {
+
+    private final Map<String, Lock> lockMap;
+    private final boolean fair;
+
+    public MapLockTable(Map<String, Lock> lockMap, boolean fair) {
+        this.lockMap = lockMap;
+        this.fair = fair;
+    }
+
+    @Override
+    public Lock lockFor(long userId) {
+        return lockMap.computeIfAbsent(String.valueOf(userId), k -> new ReentrantLock(fair));
+    }
+
+    @Override
+    public void release(long userId, Lock lock) {
+    }
+
+    @Override
+    public int size() {
+        return lockMap.size();
+    }
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.common;
+
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * mailbox 에 적재되는 포인트 충전/사용 명령
+ */
+public record PointCommand(
+        long userId,
+        TransactionType type,
+        long amount,
+        CompletableFuture<UserPoint> result
+) {
+    public PointCommand(long userId, TransactionType type, long amount) {
+        this(userId, type, amount, new CompletableFuture<>());
+    }
+}
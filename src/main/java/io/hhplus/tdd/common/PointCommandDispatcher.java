@@ -0,0 +1,152 @@
+package io.hhplus.tdd.common;
+
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 유저별 mailbox 에 포인트 충전/사용 명령을 적재하고, 유저마다 하나의 worker 가 순서대로 처리하는 컴포넌트
+ * - 한 유저의 mailbox 는 항상 같은 worker(단일 스레드)가 처리하므로 락 없이 순차 처리가 보장됩니다.
+ * - 같은 유저의 명령이 몰리면 worker 가 대기열의 명령을 연달아 처리합니다.
+ * - GROUP_COMMIT 모드에서는 batch-window 동안 모인 명령을 PointManager.applyBatch 로 한 번에 저장합니다.
+ * - LockManager 를 함께 받으면 유저의 락을 잡은 상태로 처리하므로, 락을 사용하는 다른 경로(LOCK 모드의 직접 처리)와도 직렬화됩니다.
+ */
+@Component
+public class PointCommandDispatcher {
+
+    private final PointManager pointManager;
+    private final LockManager lockManager;
+    private final ScheduledExecutorService[] workers;
+    private final int drainLimit;
+    private final boolean groupCommit;
+    private final long batchWindowNanos;
+    private final Map<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    @Autowired
+    public PointCommandDispatcher(PointManager pointManager, PointExecutionProperties executionProperties) {
+        this(pointManager, executionProperties, null);
+    }
+
+    public PointCommandDispatcher(PointManager pointManager, PointExecutionProperties executionProperties, LockManager lockManager) {
+        this.pointManager = pointManager;
+        this.lockManager = lockManager;
+        this.drainLimit = executionProperties.getDrainLimit();
+        this.groupCommit = executionProperties.getMode() == PointExecutionMode.GROUP_COMMIT;
+        this.batchWindowNanos = executionProperties.getBatchWindow().toNanos();
+        this.workers = new ScheduledExecutorService[executionProperties.getWorkers()];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = Executors.newSingleThreadScheduledExecutor(
+                    PointThreads.named("point-worker-" + i, executionProperties.isVirtualThreads()));
+        }
+    }
+
+    public CompletableFuture<UserPoint> submit(long userId, TransactionType type, long amount) {
+        PointCommand command = new PointCommand(userId, type, amount);
+        boolean[] schedule = new boolean[1];
+        // mailbox 생성/적재/제거는 모두 compute 안에서 이루어지므로 제거 중인 mailbox 에 명령이 유실되지 않음
+        mailboxes.compute(userId, (key, mailbox) -> {
+            Mailbox target = mailbox == null ? new Mailbox() : mailbox;
+            target.commands.add(command);
+            if (!target.scheduled) {
+                target.scheduled = true;
+                schedule[0] = true;
+            }
+            return target;
+        });
+        if (schedule[0]) {
+            if (groupCommit) {
+                // 첫 명령 이후 batch-window 동안 같은 유저의 명령을 더 모은 뒤 처리
+                workerFor(userId).schedule(() -> drain(userId), batchWindowNanos, TimeUnit.NANOSECONDS);
+            } else {
+                workerFor(userId).execute(() -> drain(userId));
+            }
+        }
+        return command.result();
+    }
+
+    private void drain(long userId) {
+        Mailbox mailbox = mailboxes.get(userId);
+        if (groupCommit) {
+            List<PointCommand> batch = new ArrayList<>();
+            PointCommand command;
+            while (batch.size() < drainLimit && (command = mailbox.commands.poll()) != null) {
+                batch.add(command);
+            }
+            try {
+                withLock(userId, () -> {
+                    pointManager.applyBatch(userId, batch);
+                    return null;
+                });
+            } catch (RuntimeException e) {
+                // 이미 결과가 정해진 명령에는 영향 없음
+                batch.forEach(failed -> failed.result().completeExceptionally(e));
+            }
+        } else {
+            int drained = 0;
+            PointCommand command;
+            while (drained < drainLimit && (command = mailbox.commands.poll()) != null) {
+                apply(command);
+                drained++;
+            }
+        }
+
+        boolean[] remaining = new boolean[1];
+        mailboxes.compute(userId, (key, current) -> {
+            if (current.commands.isEmpty()) {
+                return null;
+            }
+            remaining[0] = true;
+            return current;
+        });
+        if (remaining[0]) {
+            // 같은 worker 의 다른 유저가 굶지 않도록 뒤로 양보 후 이어서 처리
+            workerFor(userId).execute(() -> drain(userId));
+        }
+    }
+
+    private void apply(PointCommand command) {
+        try {
+            UserPoint userPoint = withLock(command.userId(), () -> switch (command.type()) {
+                case CHARGE -> pointManager.chargePoints(command.userId(), command.amount());
+                case USE -> pointManager.usePoints(command.userId(), command.amount());
+            });
+            command.result().complete(userPoint);
+        } catch (RuntimeException e) {
+            command.result().completeExceptionally(e);
+        }
+    }
+
+    private <T> T withLock(long userId, Supplier<T> task) {
+        return lockManager == null ? task.get() : lockManager.executeFunctionWithLock(userId, task);
+    }
+
+    private ScheduledExecutorService workerFor(long userId) {
+        return workers[UserIdHash.bucket(userId, workers.length)];
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ScheduledExecutorService worker : workers) {
+            worker.shutdown();
+        }
+    }
+
+    private static class Mailbox {
+        private final Queue<PointCommand> commands = new ConcurrentLinkedQueue<>();
+        private boolean scheduled;
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.common;
+
+/**
+ * 포인트 충전/사용 처리 방식
+ * - LOCK : 요청 스레드가 유저별 락을 획득한 뒤 직접 처리
+ * - ACTOR : 유저별 대기열(mailbox)에 적재하고, 유저마다 하나의 worker 가 순서대로 처리
+ * - GROUP_COMMIT : ACTOR 와 같이 적재하되, 짧은 시간(batch-window) 동안 모인 명령을 한 번의 잔고 저장으로 묶어 처리
+ * - ATOMIC : 락 없이 UserPointRepository 의 원자적 증감(addAndGet/tryDebit)만으로 처리
+ */
+public enum PointExecutionMode {
+    LOCK, ACTOR, GROUP_COMMIT, ATOMIC;
+
+    public boolean usesMailbox() {
+        return this == ACTOR || this == GROUP_COMMIT;
+    }
+}
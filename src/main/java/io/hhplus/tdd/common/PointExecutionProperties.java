@@ -0,0 +1,72 @@
+package io.hhplus.tdd.common;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 포인트 충전/사용 처리 방식 설정 (application.yml 의 point.execution.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.execution")
+public class PointExecutionProperties {
+
+    private PointExecutionMode mode = PointExecutionMode.LOCK;
+
+    /**
+     * ACTOR 모드에서 mailbox 를 처리할 worker 스레드 수
+     */
+    private int workers = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 한 유저의 mailbox 를 연속으로 처리할 최대 명령 수 (초과 시 같은 worker 의 다른 유저에게 양보)
+     * GROUP_COMMIT 모드에서는 한 번에 묶어 저장할 최대 명령 수
+     */
+    private int drainLimit = 64;
+
+    /**
+     * GROUP_COMMIT 모드에서 유저의 첫 명령이 적재된 뒤 다른 명령을 모으기 위해 기다리는 시간
+     */
+    private Duration batchWindow = Duration.ofMillis(5);
+
+    /**
+     * 일괄 처리(POST /points/batch) 시 서로 다른 유저의 명령을 동시에 처리할 스레드 수 (LOCK/ATOMIC 모드)
+     */
+    private int batchParallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 일괄 처리 요청 한 번에 담을 수 있는 최대 명령 수
+     */
+    private int maxBatchSize = 10_000;
+
+    /**
+     * mailbox worker, 일괄 처리 스레드를 가상 스레드로 생성 (JDK 21)
+     * 기본값은 spring.threads.virtual.enabled 를 따르며, 이 경우 요청 처리(Tomcat) 스레드도 가상 스레드로 동작합니다.
+     */
+    private boolean virtualThreads = false;
+
+    /**
+     * userId 해시로 나눌 shard 수 (1 이면 나누지 않음)
+     * shard 마다 LockManager, 저장소, mailbox worker, 일괄 처리 스레드를 따로 두며,
+     * workers 와 batchParallelism 은 shard 수로 나눠 배분합니다. (코어 수에 맞추는 것을 권장)
+     */
+    private int shards = 1;
+
+    /**
+     * shard 하나에 적용할 설정 (worker, 일괄 처리 스레드 수를 shard 수로 나눈 값)
+     */
+    public PointExecutionProperties perShard() {
+        PointExecutionProperties shardProperties = new PointExecutionProperties();
+        shardProperties.setMode(mode);
+        shardProperties.setWorkers(Math.max(1, workers / shards));
+        shardProperties.setDrainLimit(drainLimit);
+        shardProperties.setBatchWindow(batchWindow);
+        shardProperties.setBatchParallelism(Math.max(1, batchParallelism / shards));
+        shardProperties.setMaxBatchSize(maxBatchSize);
+        shardProperties.setVirtualThreads(virtualThreads);
+        return shardProperties;
+    }
+}
@@ -5,22 +5,33 @@ import io.hhplus.tdd.domain.point.model.PointHistory;
 import io.hhplus.tdd.domain.point.model.TransactionType;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
- * 해당 Table 클래스는 변경하지 않고 공개된 API 만을 사용해 데이터를 제어합니다.
+ * 저장마다 주입된 LatencyModel 만큼 지연되며, 기본값은 최대 300ms 의 균등 분포입니다.
  */
 @Component
 public class PointHistoryTable {
     private final List<PointHistory> table = new ArrayList<>();
+    private final LatencyModel insertLatency;
     private long cursor = 1;
 
+    public PointHistoryTable() {
+        this(LatencyModel.uniform(Duration.ofMillis(300)));
+    }
+
+    public PointHistoryTable(LatencyModel insertLatency) {
+        this.insertLatency = insertLatency;
+    }
+
     public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
-        throttle();
+        insertLatency.pause();
         PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
         table.add(pointHistory);
         return pointHistory;
@@ -33,11 +44,13 @@ public class PointHistoryTable {
         return userPointHistory.isEmpty() ? Optional.empty() : Optional.of(userPointHistory);
     }
 
-    private void throttle() {
-        try {
-            TimeUnit.MILLISECONDS.sleep((long) (Math.random() * 300L));
-        } catch (InterruptedException ignored) {
-
-        }
+    /**
+     * 유저의 내역을 목록으로 만들지 않고 저장 순서대로 한 건씩 순회 (순회 시작 시점까지 저장된 내역만 포함)
+     */
+    public Iterator<PointHistory> iterateByUserId(long userId) {
+        return IntStream.range(0, table.size())
+                .mapToObj(table::get)
+                .filter(pointHistory -> pointHistory.userId() == userId)
+                .iterator();
     }
 }
@@ -2,38 +2,91 @@ package io.hhplus.tdd.common;
 
 import io.hhplus.tdd.domain.point.PointHistoryRepository;
 import io.hhplus.tdd.domain.point.UserPointRepository;
+import io.hhplus.tdd.domain.point.dto.PointHistoryPage;
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
 import io.hhplus.tdd.domain.point.model.PointHistory;
 import io.hhplus.tdd.domain.point.model.TransactionType;
 import io.hhplus.tdd.domain.point.model.UserPoint;
-import io.hhplus.tdd.infrastructure.PointHistoryRepositoryImplement;
-import io.hhplus.tdd.infrastructure.UserPointRepositoryImplement;
+import io.hhplus.tdd.persistence.PointJournal;
+import io.hhplus.tdd.persistence.PointJournalEntry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 변경 기록(PointJournal)이 디스크에 반영된 뒤에만 내역을 추가하고 결과를 반환합니다.
+ * - 일괄 반영(applyBatch)은 유저 단위 직렬화 안에서 실행되므로, 새 잔고를 계산해 기록을 먼저 남긴 뒤 저장소에 반영합니다.
+ * - 단건 충전/사용은 잔고를 원자적으로 갱신한 뒤 기록하며, 기록에 실패하면 갱신한 변화량을 되돌리고 실패를 반환합니다.
+ *   (되돌리기 전까지는 다른 조회에 갱신된 잔고가 보일 수 있음)
+ *   기록을 남기는 경우(isJournaled) 같은 유저의 단건 충전/사용은 유저 단위 직렬화(락, mailbox worker) 안에서 호출해야 합니다.
+ *   기록되지 않은 변화량을 다른 사용이 써 버리면 되돌린 잔고가 음수가 되거나, 그 사용의 기록에 기록되지 않은 충전이 포함되기 때문입니다.
+ * point.striped-balance.user-ids 에 설정된 유저의 충전은 잔고 대신 StripedChargeBalances 에 더하고,
+ * 조회 시 더해서 보여 주며 사용/일괄 반영 시 잔고에 반영합니다. (조회는 반영과 겹치지 않은 시점의 잔고와 충전액을 함께 읽음)
+ * 충전/사용 요청의 검증 시간은 point.manager.validation 타이머(type, outcome=accepted|rejected 태그)로 기록합니다.
+ */
 @Component
 public class PointManager {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 1000;
+
     private final UserPointRepository userPointRepository;
     private final PointHistoryRepository pointHistoryRepository;
+    private final PointJournal pointJournal;
+    private final StripedChargeBalances stripedChargeBalances;
+    private final Map<TransactionType, Timer> acceptedValidationTimers = new EnumMap<>(TransactionType.class);
+    private final Map<TransactionType, Timer> rejectedValidationTimers = new EnumMap<>(TransactionType.class);
+
+    public PointManager(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository) {
+        this(userPointRepository, pointHistoryRepository, PointJournal.NONE);
+    }
+
+    public PointManager(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                        PointJournal pointJournal) {
+        this(userPointRepository, pointHistoryRepository, pointJournal, Metrics.globalRegistry, StripedChargeBalances.NONE);
+    }
 
     @Autowired
-    public PointManager(@Qualifier("userPointRepositoryImplement") UserPointRepository userPointRepository,
-                        @Qualifier("pointHistoryRepositoryImplement") PointHistoryRepository pointHistoryRepository) {
+    public PointManager(@Qualifier("userPointRepository") UserPointRepository userPointRepository,
+                        @Qualifier("pointHistoryRepository") PointHistoryRepository pointHistoryRepository,
+                        PointJournal pointJournal, MeterRegistry meterRegistry, StripedChargeBalances stripedChargeBalances) {
         this.userPointRepository = userPointRepository;
         this.pointHistoryRepository = pointHistoryRepository;
+        this.pointJournal = pointJournal;
+        this.stripedChargeBalances = stripedChargeBalances;
+        for (TransactionType type : TransactionType.values()) {
+            acceptedValidationTimers.put(type, validationTimer(meterRegistry, type, "accepted"));
+            rejectedValidationTimers.put(type, validationTimer(meterRegistry, type, "rejected"));
+        }
+    }
+
+    private static Timer validationTimer(MeterRegistry meterRegistry, TransactionType type, String outcome) {
+        return Timer.builder("point.manager.validation")
+                .description("충전/사용 요청 검증 시간")
+                .tag("type", type.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 
-    private void validateId(long userId) {
+    static void validateId(long userId) {
         if ( userId <= 0 ) {
             throw new IllegalArgumentException("아이디가 유효하지 않습니다.");
         }
     }
 
-    private void validateAmount(long amount, TransactionType transactionType) {
+    static void validateAmount(long amount, TransactionType transactionType) {
         String action = switch (transactionType) {
             case CHARGE -> "충전";
             case USE -> "사용";
@@ -44,22 +97,98 @@ public class PointManager {
         }
     }
 
-    private void checkBalanceSufficient(long userId, long amountToUse) {
-        Optional<UserPoint> currentBalance = userPointRepository.selectById(userId);
+    static void validateHistoryQuery(PointHistoryQuery query) {
+        if ( query.limit() <= 0 || query.limit() > MAX_HISTORY_PAGE_SIZE ) {
+            throw new IllegalArgumentException("조회할 내역 수는 1 이상 " + MAX_HISTORY_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        if ( query.fromMillis() > query.toMillis() ) {
+            throw new IllegalArgumentException("조회 시작 시각은 종료 시각보다 늦을 수 없습니다.");
+        }
+    }
 
-        if ( currentBalance.isEmpty() ) {
-            throw new IllegalArgumentException(userId + "번 유저의 정보가 없습니다.");
+    /**
+     * 충전/사용 요청 검증 (검증 결과별 소요 시간 기록)
+     */
+    private void validateRequest(long userId, long amount, TransactionType type) {
+        long start = System.nanoTime();
+        try {
+            validateId(userId);
+            validateAmount(amount, type);
+        } catch (IllegalArgumentException e) {
+            rejectedValidationTimers.get(type).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        acceptedValidationTimers.get(type).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 변경 기록을 남기는지 여부 (point.wal.enabled)
+     */
+    public boolean isJournaled() {
+        return pointJournal != PointJournal.NONE;
+    }
+
+    /**
+     * 충전을 sub-counter 에 더하는 유저인지 여부 (이 유저의 충전은 락/mailbox 를 거칠 필요 없음)
+     */
+    public boolean usesStripedBalance(long userId) {
+        return stripedChargeBalances.covers(userId);
+    }
+
+    /**
+     * sub-counter 에 모인 충전액을 잔고에 반영
+     * 잔고를 읽고 다시 쓰는 처리(사용, 일괄 반영)와 같은 유저 단위 직렬화(락, mailbox worker) 안에서 호출해야 합니다.
+     */
+    private void foldStripedCharges(long userId) {
+        stripedChargeBalances.fold(userId, pending -> userPointRepository.addAndGet(userId, pending));
+    }
+
+    /**
+     * 차감에 실패한 원인(유저 정보 없음/잔고 부족)에 맞는 예외
+     */
+    private IllegalArgumentException debitFailure(long userId) {
+        if ( userPointRepository.selectById(userId).isEmpty() ) {
+            return new IllegalArgumentException(userId + "번 유저의 정보가 없습니다.");
         }
+        return new IllegalArgumentException("잔고가 부족합니다.");
+    }
+
+    /**
+     * 변경 기록이 디스크에 반영될 때까지 대기
+     */
+    private void awaitJournal(CompletableFuture<Void> journaled) {
+        try {
+            journaled.join();
+        } catch (CompletionException e) {
+            throw new RuntimeException("변경 내역 기록에 실패했습니다.");
+        }
+    }
 
-        if ( amountToUse > currentBalance.get().points() ) {
-            throw new IllegalArgumentException("잔고가 부족합니다.");
+    /**
+     * 이미 반영한 잔고 변경의 기록을 남기고, 기록에 실패하면 변화량(delta)을 되돌린 뒤 실패를 반환
+     */
+    private void journalOrRevert(PointJournalEntry entry) {
+        try {
+            awaitJournal(pointJournal.append(entry));
+        } catch (RuntimeException e) {
+            userPointRepository.addAndGet(entry.userId(), -entry.delta());
+            throw e;
         }
     }
 
     public Optional<UserPoint> findPoints(long userId) {
         validateId(userId);
 
-        Optional<UserPoint> userPoint = userPointRepository.selectById(userId);
+        // 반영 전 충전액은 잔고를 바꾸지 않고 더해서 반환
+        Optional<UserPoint> userPoint = stripedChargeBalances.withPending(userId, pending -> {
+            Optional<UserPoint> stored = userPointRepository.selectById(userId);
+            if ( pending == 0 ) {
+                return stored;
+            }
+            return Optional.of(stored
+                    .map(current -> new UserPoint(userId, current.points() + pending, current.updateMillis()))
+                    .orElseGet(() -> new UserPoint(userId, pending, System.currentTimeMillis())));
+        });
         if (userPoint.isEmpty()) {
             throw new IllegalArgumentException(userId + "번 유저의 정보가 없습니다.");
         }
@@ -78,33 +207,142 @@ public class PointManager {
         return listOfPointHistory;
     }
 
-    public UserPoint chargePoints(long userId, long amountToCharge) {
+    public Iterator<PointHistory> iterateHistory(long userId) {
         validateId(userId);
-        validateAmount(amountToCharge, TransactionType.CHARGE);
 
-        Optional<UserPoint> currentUserPoint = userPointRepository.selectById(userId);
-        long currentAmount = currentUserPoint.map(UserPoint::points).orElse(0L); // userId에 대한 point 정보 없으면 0으로 초기화
+        return pointHistoryRepository.iterateByUserId(userId);
+    }
 
-        UserPoint updatedBalance = userPointRepository.insertOrUpdate(userId, currentAmount + amountToCharge);
+    public PointHistoryPage findHistoryPage(long userId, PointHistoryQuery query) {
+        validateId(userId);
+        validateHistoryQuery(query);
+
+        // 한 건 더 조회해 다음 페이지 존재 여부 확인
+        PointHistoryQuery lookAhead = new PointHistoryQuery(query.afterId(), query.limit() + 1, query.fromMillis(), query.toMillis());
+        return PointHistoryPage.of(pointHistoryRepository.selectPageByUserId(userId, lookAhead), query.limit());
+    }
+
+    public UserPoint chargePoints(long userId, long amountToCharge) {
+        validateRequest(userId, amountToCharge, TransactionType.CHARGE);
+        if ( stripedChargeBalances.covers(userId) ) {
+            return chargeStriped(userId, amountToCharge);
+        }
+
+        // userId에 대한 point 정보 없으면 0에서 충전
+        UserPoint updatedBalance = userPointRepository.addAndGet(userId, amountToCharge);
+        journalOrRevert(new PointJournalEntry(userId, TransactionType.CHARGE, amountToCharge,
+                updatedBalance.points(), updatedBalance.updateMillis()));
         pointHistoryRepository.insert(userId, updatedBalance.points(), TransactionType.CHARGE, updatedBalance.updateMillis());
 
         return updatedBalance;
     }
 
     public UserPoint usePoints(long userId, long amountToUse) {
-        validateId(userId);
-        validateAmount(amountToUse, TransactionType.USE);
-        checkBalanceSufficient(userId, amountToUse);
-
-       Optional<UserPoint> currentUserPoint = userPointRepository.selectById(userId);
-        if (currentUserPoint.isEmpty()) {
-            throw new IllegalArgumentException(userId + "번 유저의 정보가 없습니다.");
-        }
-        long currentAmount = currentUserPoint.get().points();
+        validateRequest(userId, amountToUse, TransactionType.USE);
+        foldStripedCharges(userId);
 
-        UserPoint updatedBalance = userPointRepository.insertOrUpdate(userId, currentAmount - amountToUse);
+        // 잔고 확인과 차감을 한 번에 처리
+        UserPoint updatedBalance = userPointRepository.tryDebit(userId, amountToUse)
+                .orElseThrow(() -> debitFailure(userId));
+        journalOrRevert(new PointJournalEntry(userId, TransactionType.USE, amountToUse,
+                updatedBalance.points(), updatedBalance.updateMillis()));
         pointHistoryRepository.insert(updatedBalance.id(), updatedBalance.points(), TransactionType.USE, updatedBalance.updateMillis());
 
         return updatedBalance;
     }
+
+    /**
+     * 잔고를 갱신하지 않고 sub-counter 에 더함
+     * 내역과 변경 기록의 잔고는 반영(fold)과 겹치지 않은 시점의 저장된 잔고와 반영 전 충전액의 합에 이번 충전액을 더한 값이며,
+     * 같은 유저의 다른 충전이 동시에 처리되는 중이면 그 충전액의 포함 여부에 따라 달라지는 근사값입니다.
+     * (WAL 복구는 충전액(delta)으로 잔고를 계산하므로 영향 없음)
+     */
+    private UserPoint chargeStriped(long userId, long amountToCharge) {
+        UserPoint updatedBalance = stripedChargeBalances.withPending(userId, pending -> new UserPoint(userId,
+                userPointRepository.selectById(userId).map(UserPoint::points).orElse(0L) + pending + amountToCharge,
+                System.currentTimeMillis()));
+        // 기록이 디스크에 반영된 뒤에 sub-counter 에 더함
+        awaitJournal(pointJournal.append(new PointJournalEntry(userId, TransactionType.CHARGE, amountToCharge,
+                updatedBalance.points(), updatedBalance.updateMillis())));
+        stripedChargeBalances.add(userId, amountToCharge);
+        pointHistoryRepository.insert(userId, updatedBalance.points(), TransactionType.CHARGE, updatedBalance.updateMillis());
+
+        return updatedBalance;
+    }
+
+    /**
+     * 한 유저의 충전/사용 명령들을 순서대로 검증해 한 번의 잔고 저장으로 반영하고, 명령별 결과와 내역을 남깁니다.
+     * 검증에 실패한 명령(잔고를 초과하는 사용 등)만 개별적으로 실패 처리되며, 나머지 명령은 그대로 반영됩니다.
+     * 통과한 명령의 기록이 모두 디스크에 반영된 뒤에 잔고와 내역을 저장하며, 기록에 실패하면 아무것도 반영하지 않습니다.
+     */
+    public void applyBatch(long userId, List<PointCommand> commands) {
+        if ( commands.isEmpty() ) {
+            return;
+        }
+        try {
+            validateId(userId);
+        } catch (IllegalArgumentException e) {
+            commands.forEach(command -> command.result().completeExceptionally(e));
+            return;
+        }
+
+        foldStripedCharges(userId);
+        Optional<UserPoint> currentUserPoint = userPointRepository.selectById(userId);
+        boolean exists = currentUserPoint.isPresent();
+        long balance = currentUserPoint.map(UserPoint::points).orElse(0L);
+
+        List<PointCommand> accepted = new ArrayList<>(commands.size());
+        long[] balances = new long[commands.size()];
+        for (PointCommand command : commands) {
+            long start = System.nanoTime();
+            try {
+                validateAmount(command.amount(), command.type());
+                if ( command.type() == TransactionType.USE ) {
+                    if ( !exists ) {
+                        throw new IllegalArgumentException(userId + "번 유저의 정보가 없습니다.");
+                    }
+                    if ( command.amount() > balance ) {
+                        throw new IllegalArgumentException("잔고가 부족합니다.");
+                    }
+                    balance -= command.amount();
+                } else {
+                    balance += command.amount();
+                }
+                exists = true;
+                balances[accepted.size()] = balance;
+                accepted.add(command);
+                acceptedValidationTimers.get(command.type()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            } catch (IllegalArgumentException e) {
+                rejectedValidationTimers.get(command.type()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                command.result().completeExceptionally(e);
+            }
+        }
+        if ( accepted.isEmpty() ) {
+            return;
+        }
+
+        int completed = 0;
+        try {
+            long millis = System.currentTimeMillis();
+            List<CompletableFuture<Void>> journaled = new ArrayList<>(accepted.size());
+            for (int i = 0; i < accepted.size(); i++) {
+                PointCommand command = accepted.get(i);
+                journaled.add(pointJournal.append(new PointJournalEntry(userId, command.type(), command.amount(),
+                        balances[i], millis)));
+            }
+            // 묶음 전체의 기록이 한 번에 디스크에 반영된 뒤 잔고와 내역 저장
+            awaitJournal(CompletableFuture.allOf(journaled.toArray(CompletableFuture[]::new)));
+            UserPoint updatedBalance = userPointRepository.insertOrUpdate(userId, balance);
+            for (int i = 0; i < accepted.size(); i++) {
+                pointHistoryRepository.insert(userId, balances[i], accepted.get(i).type(), millis);
+            }
+            for (; completed < accepted.size(); completed++) {
+                accepted.get(completed).result().complete(new UserPoint(userId, balances[completed], updatedBalance.updateMillis()));
+            }
+        } catch (RuntimeException e) {
+            for (; completed < accepted.size(); completed++) {
+                accepted.get(completed).result().completeExceptionally(e);
+            }
+        }
+    }
 }
@@ -0,0 +1,42 @@
+package io.hhplus.tdd.common;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 포인트 처리용 스레드 생성
+ * point.execution.virtual-threads 설정 시 가상 스레드를, 아니면 플랫폼 스레드를 생성합니다.
+ */
+public final class PointThreads {
+
+    private PointThreads() {
+    }
+
+    /**
+     * 모든 스레드가 같은 이름을 갖는 ThreadFactory (단일 스레드 executor 용)
+     */
+    public static ThreadFactory named(String name, boolean virtual) {
+        return virtual
+                ? Thread.ofVirtual().name(name).factory()
+                : Thread.ofPlatform().name(name).factory();
+    }
+
+    /**
+     * prefix 뒤에 0 부터 번호를 붙여 이름을 짓는 ThreadFactory
+     */
+    public static ThreadFactory numbered(String prefix, boolean virtual) {
+        return virtual
+                ? Thread.ofVirtual().name(prefix, 0).factory()
+                : Thread.ofPlatform().name(prefix, 0).factory();
+    }
+
+    /**
+     * 가상 스레드는 작업마다 새 스레드를, 플랫폼 스레드는 threads 개의 고정 크기 풀을 사용하는 executor
+     */
+    public static ExecutorService newExecutor(String prefix, int threads, boolean virtual) {
+        return virtual
+                ? Executors.newThreadPerTaskExecutor(numbered(prefix, true))
+                : Executors.newFixedThreadPool(threads, numbered(prefix, false));
+    }
+}
@@ -0,0 +1,174 @@
+package io.hhplus.tdd.common;
+
+import io.hhplus.tdd.domain.point.ReactivePointHistoryRepository;
+import io.hhplus.tdd.domain.point.ReactiveUserPointRepository;
+import io.hhplus.tdd.domain.point.dto.PointHistoryPage;
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import io.hhplus.tdd.persistence.PointJournal;
+import io.hhplus.tdd.persistence.PointJournalEntry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PointManager 의 non-blocking 버전
+ * - 검증 규칙과 예외 메시지는 PointManager 와 같습니다.
+ * - 저장소의 addAndGet/tryDebit 으로 잔고를 원자적으로 갱신합니다.
+ * - LOCK 모드에서는 같은 유저의 충전/사용을 스레드를 점유하지 않고 앞선 요청이 끝난 뒤에 구독하는 방식으로 직렬화하고,
+ *   ATOMIC 모드에서는 변경 기록을 남기는 경우에만 직렬화합니다. (기록 실패 시 되돌릴 변화량을 다른 사용이 쓰지 않도록)
+ * - 변경 기록이 디스크에 반영된 뒤에 내역을 추가하며, 기록에 실패하면 갱신한 변화량을 되돌리고 실패를 반환합니다.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePointManager {
+
+    private final ReactiveUserPointRepository userPointRepository;
+    private final ReactivePointHistoryRepository pointHistoryRepository;
+    private final PointJournal pointJournal;
+    private final boolean serialized;
+    /**
+     * 유저별로 마지막에 구독된 충전/사용이 끝나면 완료되는 future (직렬화할 때만 사용, 처리 중인 요청이 없으면 제거)
+     */
+    private final Map<Long, CompletableFuture<Void>> lastUpdates = new ConcurrentHashMap<>();
+
+    public ReactivePointManager(ReactiveUserPointRepository userPointRepository,
+                                ReactivePointHistoryRepository pointHistoryRepository) {
+        this(userPointRepository, pointHistoryRepository, PointJournal.NONE, new PointExecutionProperties());
+    }
+
+    @Autowired
+    public ReactivePointManager(ReactiveUserPointRepository userPointRepository,
+                                ReactivePointHistoryRepository pointHistoryRepository,
+                                PointJournal pointJournal, PointExecutionProperties executionProperties) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.pointJournal = pointJournal;
+        this.serialized = executionProperties.getMode() == PointExecutionMode.LOCK || pointJournal != PointJournal.NONE;
+    }
+
+    public Mono<UserPoint> findPoints(long userId) {
+        return Mono.defer(() -> {
+            PointManager.validateId(userId);
+
+            return userPointRepository.selectById(userId)
+                    .switchIfEmpty(Mono.error(() -> new IllegalArgumentException(userId + "번 유저의 정보가 없습니다.")));
+        });
+    }
+
+    public Flux<PointHistory> findHistory(long userId) {
+        return Flux.defer(() -> {
+            PointManager.validateId(userId);
+
+            return pointHistoryRepository.selectAllByUserId(userId)
+                    .switchIfEmpty(Flux.error(() -> new IllegalArgumentException(userId + "번 유저의 정보가 없습니다.")));
+        });
+    }
+
+    public Flux<PointHistory> streamHistory(long userId) {
+        return Flux.defer(() -> {
+            PointManager.validateId(userId);
+
+            return pointHistoryRepository.selectAllByUserId(userId);
+        });
+    }
+
+    public Mono<PointHistoryPage> findHistoryPage(long userId, PointHistoryQuery query) {
+        return Mono.defer(() -> {
+            PointManager.validateId(userId);
+            PointManager.validateHistoryQuery(query);
+
+            // 한 건 더 조회해 다음 페이지 존재 여부 확인
+            PointHistoryQuery lookAhead = new PointHistoryQuery(query.afterId(), query.limit() + 1, query.fromMillis(), query.toMillis());
+            return pointHistoryRepository.selectPageByUserId(userId, lookAhead)
+                    .collectList()
+                    .map(histories -> PointHistoryPage.of(histories, query.limit()));
+        });
+    }
+
+    public Mono<UserPoint> chargePoints(long userId, long amountToCharge) {
+        return Mono.defer(() -> {
+            PointManager.validateId(userId);
+            PointManager.validateAmount(amountToCharge, TransactionType.CHARGE);
+
+            return inTurn(userId, userPointRepository.addAndGet(userId, amountToCharge)
+                    .flatMap(updatedBalance -> journalOrRevert(new PointJournalEntry(userId, TransactionType.CHARGE, amountToCharge,
+                                    updatedBalance.points(), updatedBalance.updateMillis()))
+                            .then(pointHistoryRepository
+                                    .insert(userId, updatedBalance.points(), TransactionType.CHARGE, updatedBalance.updateMillis()))
+                            .thenReturn(updatedBalance)));
+        });
+    }
+
+    public Mono<UserPoint> usePoints(long userId, long amountToUse) {
+        return Mono.defer(() -> {
+            PointManager.validateId(userId);
+            PointManager.validateAmount(amountToUse, TransactionType.USE);
+
+            return inTurn(userId, userPointRepository.tryDebit(userId, amountToUse)
+                    .switchIfEmpty(Mono.defer(() -> debitFailure(userId)))
+                    .flatMap(updatedBalance -> journalOrRevert(new PointJournalEntry(userId, TransactionType.USE, amountToUse,
+                                    updatedBalance.points(), updatedBalance.updateMillis()))
+                            .then(pointHistoryRepository
+                                    .insert(userId, updatedBalance.points(), TransactionType.USE, updatedBalance.updateMillis()))
+                            .thenReturn(updatedBalance)));
+        });
+    }
+
+    /**
+     * 직렬화하는 경우 같은 유저의 앞선 충전/사용이 끝난 뒤에 update 를 구독 (대기 중에 스레드를 점유하지 않음)
+     * 대기 중에 취소되어도 앞선 요청이 끝나기 전에는 다음 요청의 차례가 오지 않습니다.
+     */
+    private <T> Mono<T> inTurn(long userId, Mono<T> update) {
+        if ( !serialized ) {
+            return update;
+        }
+        return Mono.defer(() -> {
+            CompletableFuture<Void> done = new CompletableFuture<>();
+            CompletableFuture<Void> previous = lastUpdates.put(userId, done);
+            Mono<Void> turn = previous == null ? Mono.empty() : Mono.fromFuture(previous, true);
+            return turn.then(update)
+                    .doFinally(signal -> (previous == null ? CompletableFuture.<Void>completedFuture(null) : previous)
+                            .whenComplete((ignored, e) -> {
+                                lastUpdates.remove(userId, done);
+                                done.complete(null);
+                            }));
+        });
+    }
+
+    /**
+     * 변경 기록을 남기고 디스크에 반영되면 완료되는 Mono
+     */
+    private Mono<Void> journal(PointJournalEntry entry) {
+        return Mono.defer(() -> Mono.fromFuture(pointJournal.append(entry)))
+                .onErrorMap(e -> new RuntimeException("변경 내역 기록에 실패했습니다."));
+    }
+
+    /**
+     * 이미 반영한 잔고 변경의 기록을 남기고, 기록에 실패하면 변화량(delta)을 되돌린 뒤 실패를 전달
+     */
+    private Mono<Void> journalOrRevert(PointJournalEntry entry) {
+        return journal(entry)
+                .onErrorResume(e -> userPointRepository.addAndGet(entry.userId(), -entry.delta())
+                        .then(Mono.error(e)));
+    }
+
+    /**
+     * 차감에 실패한 원인(유저 정보 없음/잔고 부족)에 맞는 예외
+     */
+    private Mono<UserPoint> debitFailure(long userId) {
+        return userPointRepository.selectById(userId)
+                .hasElement()
+                .flatMap(exists -> Mono.error(exists
+                        ? new IllegalArgumentException("잔고가 부족합니다.")
+                        : new IllegalArgumentException(userId + "번 유저의 정보가 없습니다.")));
+    }
+}
@@ -0,0 +1,48 @@
+package io.hhplus.tdd.common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용 중인 요청 수(참조 수)를 세어, 아무도 사용하지 않는 Lock 은 제거하는 LockTable
+ * 참조 수 증감과 제거는 ConcurrentHashMap 의 compute 안에서만 이루어지므로
+ * 제거된 Lock 을 다른 요청이 뒤늦게 사용하는 일은 없습니다.
+ */
+public class RefCountedLockTable implements LockTable {
+
+    private final Map<Long, RefCountedLock> lockMap = new ConcurrentHashMap<>();
+    private final boolean fair;
+
+    public RefCountedLockTable(boolean fair) {
+        this.fair = fair;
+    }
+
+    @Override
+    public Lock lockFor(long userId) {
+        return lockMap.compute(userId, (key, lock) -> {
+            RefCountedLock refCountedLock = lock == null ? new RefCountedLock(fair) : lock;
+            refCountedLock.references++;
+            return refCountedLock;
+        });
+    }
+
+    @Override
+    public void release(long userId, Lock lock) {
+        lockMap.computeIfPresent(userId, (key, refCountedLock) -> --refCountedLock.references == 0 ? null : refCountedLock);
+    }
+
+    @Override
+    public int size() {
+        return lockMap.size();
+    }
+
+    private static class RefCountedLock extends ReentrantLock {
+        private int references;
+
+        RefCountedLock(boolean fair) {
+            super(fair);
+        }
+    }
+}
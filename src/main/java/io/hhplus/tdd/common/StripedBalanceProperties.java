@@ -0,0 +1,22 @@
+package io.hhplus.tdd.common;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 충전이 몰리고 사용은 드문 유저의 잔고를 sub-counter 로 나눠 관리하는 설정 (application.yml 의 point.striped-balance.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.striped-balance")
+public class StripedBalanceProperties {
+
+    /**
+     * 충전을 sub-counter(LongAdder)에 더할 유저 id 목록 (비어 있으면 사용하지 않음)
+     */
+    private Set<Long> userIds = new HashSet<>();
+}
@@ -0,0 +1,105 @@
+package io.hhplus.tdd.common;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+
+/**
+ * 설정된 유저의 충전액을 잔고(UserPoint) 대신 유저별 LongAdder 에 더해 두는 컴포넌트
+ * - LongAdder 는 경합 시 스레드마다 다른 칸(cell)에 더하므로, 한 유저에게 충전이 몰려도 코어 수만큼 동시에 처리됩니다.
+ * - 모인 충전액은 사용(usePoints) 또는 일괄 반영(applyBatch) 시 유저 단위로 직렬화된 경로에서 잔고에 한 번에 반영(fold)합니다.
+ * - fold 는 칸마다 getAndSet(0) 으로 꺼내므로, 꺼내는 중에 더해진 충전액은 유실되지 않고 다음 fold 에 포함됩니다.
+ * - 꺼낸 충전액을 잔고에 더할 때까지는 유저별 StampedLock 의 쓰기 락을 잡고, 잔고와 반영 전 충전액을 함께 읽는 쪽(withPending)은
+ *   낙관적 읽기 후 그 사이 fold 가 있었으면 읽기 락으로 다시 읽으므로, 반영 중인 충전액을 빠뜨리거나 두 번 더하지 않습니다.
+ *   (충전(add)은 락을 사용하지 않음)
+ */
+@Component
+public class StripedChargeBalances {
+
+    public static final StripedChargeBalances NONE = new StripedChargeBalances(new StripedBalanceProperties());
+
+    private final Map<Long, PendingCharges> pendingCharges;
+
+    @Autowired
+    public StripedChargeBalances(StripedBalanceProperties stripedBalanceProperties) {
+        Map<Long, PendingCharges> pendingCharges = new HashMap<>();
+        stripedBalanceProperties.getUserIds().forEach(userId -> pendingCharges.put(userId, new PendingCharges()));
+        // 생성 후 변경하지 않으므로 조회 시 동기화 불필요
+        this.pendingCharges = Map.copyOf(pendingCharges);
+    }
+
+    public boolean covers(long userId) {
+        return pendingCharges.containsKey(userId);
+    }
+
+    /**
+     * 충전액을 더함
+     */
+    public void add(long userId, long amount) {
+        pendingCharges.get(userId).adder.add(amount);
+    }
+
+    /**
+     * 아직 잔고에 반영되지 않은 충전액 합계
+     */
+    public long pending(long userId) {
+        PendingCharges pending = pendingCharges.get(userId);
+        return pending == null ? 0 : pending.adder.sum();
+    }
+
+    /**
+     * 반영되지 않은 충전액을 모두 꺼내 apply 로 잔고에 더하고, 꺼낸 금액을 반환
+     * apply 가 끝날 때까지 withPending 은 fold 이전 또는 이후의 상태만 읽습니다.
+     */
+    public long fold(long userId, LongConsumer apply) {
+        PendingCharges pending = pendingCharges.get(userId);
+        if ( pending == null ) {
+            return 0;
+        }
+        long stamp = pending.lock.writeLock();
+        try {
+            long drained = pending.adder.sumThenReset();
+            if ( drained > 0 ) {
+                apply.accept(drained);
+            }
+            return drained;
+        } finally {
+            pending.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 반영 전 충전액을 넘겨 reader 를 실행 (reader 는 저장된 잔고를 읽어 더하는 등 부수 효과 없는 조회만 수행)
+     * 실행 중에 fold 가 있었으면 읽기 락을 잡고 다시 실행하므로, 결과는 fold 와 겹치지 않은 시점의 잔고 + 반영 전 충전액입니다.
+     */
+    public <T> T withPending(long userId, LongFunction<T> reader) {
+        PendingCharges pending = pendingCharges.get(userId);
+        if ( pending == null ) {
+            return reader.apply(0);
+        }
+        long stamp = pending.lock.tryOptimisticRead();
+        if ( stamp != 0 ) {
+            T result = reader.apply(pending.adder.sum());
+            if ( pending.lock.validate(stamp) ) {
+                return result;
+            }
+        }
+        stamp = pending.lock.readLock();
+        try {
+            return reader.apply(pending.adder.sum());
+        } finally {
+            pending.lock.unlockRead(stamp);
+        }
+    }
+
+    private static class PendingCharges {
+        private final LongAdder adder = new LongAdder();
+        private final StampedLock lock = new StampedLock();
+    }
+}
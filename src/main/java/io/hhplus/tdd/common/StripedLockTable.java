@@ -0,0 +1,44 @@
+package io.hhplus.tdd.common;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 고정 크기 Lock 배열을 userId 해시로 나누어 사용하는 LockTable
+ * 메모리 사용량이 유저 수와 무관하지만, 같은 stripe 에 매핑된 서로 다른 유저끼리는 순차 처리됩니다.
+ */
+public class StripedLockTable implements LockTable {
+
+    private final Lock[] stripes;
+    private final int mask;
+
+    public StripedLockTable(int stripeCount, boolean fair) {
+        if ( stripeCount <= 0 ) {
+            throw new IllegalArgumentException("stripe 개수는 양수여야 합니다.");
+        }
+        int size = Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new Lock[Math.max(size, 1)];
+        this.mask = stripes.length - 1;
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock(fair);
+        }
+    }
+
+    @Override
+    public Lock lockFor(long userId) {
+        return stripes[indexFor(userId)];
+    }
+
+    @Override
+    public void release(long userId, Lock lock) {
+    }
+
+    @Override
+    public int size() {
+        return stripes.length;
+    }
+
+    int indexFor(long userId) {
+        return UserIdHash.spread(userId) & mask;
+    }
+}
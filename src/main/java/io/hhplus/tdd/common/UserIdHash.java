@@ -0,0 +1,23 @@
+package io.hhplus.tdd.common;
+
+/**
+ * userId 를 고르게 분산된 해시값으로 변환
+ * 연속된 userId 가 인접한 stripe/worker 에 몰리지 않도록 상위 비트까지 섞어 사용합니다.
+ */
+public final class UserIdHash {
+
+    private UserIdHash() {
+    }
+
+    public static int spread(long userId) {
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * 0 이상 bucketCount 미만의 버킷 번호
+     */
+    public static int bucket(long userId, int bucketCount) {
+        return Math.floorMod(spread(userId), bucketCount);
+    }
+}
@@ -3,36 +3,39 @@ package io.hhplus.tdd.common;
 import io.hhplus.tdd.domain.point.model.UserPoint;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 
 /**
- * 해당 Table 클래스는 변경하지 않고 공개된 API 만을 사용해 데이터를 제어합니다.
+ * 조회/저장마다 주입된 LatencyModel 만큼 지연되며, 기본값은 최대 200ms/300ms 의 균등 분포입니다.
  */
 @Component
 public class UserPointTable {
 
     private final Map<Long, UserPoint> table = new HashMap<>();
+    private final LatencyModel selectLatency;
+    private final LatencyModel insertLatency;
+
+    public UserPointTable() {
+        this(LatencyModel.uniform(Duration.ofMillis(200)), LatencyModel.uniform(Duration.ofMillis(300)));
+    }
+
+    public UserPointTable(LatencyModel selectLatency, LatencyModel insertLatency) {
+        this.selectLatency = selectLatency;
+        this.insertLatency = insertLatency;
+    }
 
     public Optional<UserPoint> selectById(long id) {
-        throttle(200);
+        selectLatency.pause();
         return Optional.ofNullable(table.get(id));
     }
 
     public UserPoint insertOrUpdate(long id, long amount) {
-        throttle(300);
+        insertLatency.pause();
         UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
         table.put(id, userPoint);
         return userPoint;
     }
-
-    private void throttle(long millis) {
-        try {
-            TimeUnit.MILLISECONDS.sleep((long) (Math.random() * millis));
-        } catch (InterruptedException ignored) {
-
-        }
-    }
 }
@@ -1,28 +1,45 @@
 package io.hhplus.tdd.controller;
 
-import io.hhplus.tdd.domain.point.PointService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.domain.point.PointShardRouter;
+import io.hhplus.tdd.domain.point.dto.HotUser;
+import io.hhplus.tdd.domain.point.dto.PointHistoryPage;
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.dto.PointOperation;
+import io.hhplus.tdd.domain.point.dto.PointOperationResult;
 import io.hhplus.tdd.domain.point.dto.PointRequest;
 import io.hhplus.tdd.domain.point.model.PointHistory;
 import io.hhplus.tdd.domain.point.model.UserPoint;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.awt.*;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/points")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class PointController {
 
     private static final Logger logger = LoggerFactory.getLogger(PointController.class);
-    private final PointService pointService;
+    private static final int STREAM_FLUSH_INTERVAL = 256;
+
+    private final PointShardRouter pointShardRouter;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public PointController(PointService pointService) {
-        this.pointService = pointService;
+    public PointController(PointShardRouter pointShardRouter, ObjectMapper objectMapper) {
+        this.pointShardRouter = pointShardRouter;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -32,8 +49,10 @@ public class PointController {
     public Optional<UserPoint> findPoints(
             @PathVariable long id
     ) {
-        Optional<UserPoint> userPoint = pointService.findPoints(id);
-        userPoint.ifPresent(point -> logger.info(String.format("id %d번 유저가 잔고(%dp)를 조회했습니다.", id, point.points())));
+        Optional<UserPoint> userPoint = pointShardRouter.findPoints(id);
+        if ( logger.isInfoEnabled() ) {
+            userPoint.ifPresent(point -> logger.info("id {}번 유저가 잔고({}p)를 조회했습니다.", id, point.points()));
+        }
         return userPoint;
     }
 
@@ -44,34 +63,115 @@ public class PointController {
     public Optional<List<PointHistory>> findHistory(
             @PathVariable long id
     ) {
-        Optional<List<PointHistory>> pointHistory = pointService.findHistory(id);
-        pointHistory.ifPresent(points -> logger.info(String.format("id %d번 유저가 포인트 충전/사용 내역을 조회했습니다. :: %s", id, points.toString())));
+        Optional<List<PointHistory>> pointHistory = pointShardRouter.findHistory(id);
+        // 내역 전체를 문자열로 만들지 않고 건수만 기록
+        if ( logger.isInfoEnabled() ) {
+            pointHistory.ifPresent(points -> logger.info("id {}번 유저가 포인트 충전/사용 내역 {}건을 조회했습니다.", id, points.size()));
+        }
         return pointHistory;
     }
 
+    /**
+     * 특정 유저의 포인트 충전/이용 내역 페이지 조회
+     * cursor(이전 페이지의 nextCursor) 이후의 내역을 limit 건까지, from/to(updateMillis) 범위로 조회
+     */
+    @GetMapping(value = "{id}/history", params = "limit")
+    public PointHistoryPage findHistoryPage(
+            @PathVariable long id,
+            @RequestParam int limit,
+            @RequestParam(defaultValue = "0") long cursor,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to
+    ) {
+        PointHistoryQuery query = new PointHistoryQuery(cursor, limit,
+                from == null ? Long.MIN_VALUE : from,
+                to == null ? Long.MAX_VALUE : to);
+        PointHistoryPage page = pointShardRouter.findHistoryPage(id, query);
+        if ( logger.isInfoEnabled() ) {
+            logger.info("id {}번 유저가 포인트 충전/사용 내역 {}건을 조회했습니다. (cursor: {})", id, page.histories().size(), cursor);
+        }
+        return page;
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역 스트리밍 조회 (NDJSON)
+     * 목록을 만들지 않고 저장소에서 읽은 내역을 한 줄에 한 건씩 바로 응답에 기록
+     */
+    @GetMapping(value = "{id}/history/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamHistory(
+            @PathVariable long id
+    ) {
+        Iterator<PointHistory> histories = pointShardRouter.iterateHistory(id);
+        return outputStream -> {
+            long count = 0;
+            // generator 를 닫아 버퍼를 비우되, 응답 스트림은 servlet 컨테이너가 닫도록 둠
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                while (histories.hasNext()) {
+                    generator.writeObject(histories.next());
+                    generator.writeRaw('\n');
+                    if ( ++count % STREAM_FLUSH_INTERVAL == 0 ) {
+                        generator.flush();
+                    }
+                }
+            }
+            logger.info("id {}번 유저의 포인트 충전/사용 내역 {}건을 스트리밍했습니다.", id, count);
+        };
+    }
+
+    /**
+     * 최근 충전/사용 요청이 몰리는 유저(hot user) 목록 조회 (이 노드에서 감지한 유저, 추정 요청 수 내림차순)
+     */
+    @GetMapping("hot-users")
+    public List<HotUser> findHotUsers() {
+        return pointShardRouter.findHotUsers();
+    }
+
     /**
      * 특정 유저의 포인트 충전
      */
     @PatchMapping("{id}/charge")
-    public UserPoint chargePoints(
+    public CompletableFuture<UserPoint> chargePoints(
             @PathVariable long id,
             @RequestBody PointRequest pointRequest
     ) {
-        UserPoint userPoint = pointService.chargePoints(id, pointRequest.getAmount());
-        logger.info(String.format("id %d번 유저가 %d포인트를 충전했습니다.", id, pointRequest.getAmount()));
-        return userPoint;
+        return pointShardRouter.chargePointsAsync(id, pointRequest.getAmount()).thenApply(userPoint -> {
+            if ( logger.isInfoEnabled() ) {
+                logger.info("id {}번 유저가 {}포인트를 충전했습니다.", id, pointRequest.getAmount());
+            }
+            return userPoint;
+        });
     }
 
     /**
      * 특정 유저의 포인트 사용
      */
     @PatchMapping("{id}/use")
-    public UserPoint usePoints(
+    public CompletableFuture<UserPoint> usePoints(
             @PathVariable long id,
             @RequestBody PointRequest pointRequest
     ) {
-        UserPoint userPoint = pointService.usePoints(id, pointRequest.getAmount());
-        logger.info(String.format("id %d번 유저가 %d포인트를 사용했습니다.", id, pointRequest.getAmount()));
-        return userPoint;
+        return pointShardRouter.usePointsAsync(id, pointRequest.getAmount()).thenApply(userPoint -> {
+            if ( logger.isInfoEnabled() ) {
+                logger.info("id {}번 유저가 {}포인트를 사용했습니다.", id, pointRequest.getAmount());
+            }
+            return userPoint;
+        });
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/사용 일괄 처리
+     * 명령별 성공/실패 결과를 요청 순서대로 반환
+     */
+    @PostMapping("batch")
+    public List<PointOperationResult> executeBatch(
+            @RequestBody List<PointOperation> operations
+    ) {
+        List<PointOperationResult> results = pointShardRouter.executeBatch(operations);
+        if ( logger.isInfoEnabled() ) {
+            long succeeded = results.stream().filter(PointOperationResult::success).count();
+            logger.info("포인트 일괄 처리 {}건 중 {}건 성공, {}건 실패했습니다.", results.size(), succeeded, results.size() - succeeded);
+        }
+        return results;
     }
 }
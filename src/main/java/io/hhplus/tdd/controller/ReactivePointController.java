@@ -0,0 +1,122 @@
+package io.hhplus.tdd.controller;
+
+import io.hhplus.tdd.domain.point.ReactivePointService;
+import io.hhplus.tdd.domain.point.dto.PointHistoryPage;
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.dto.PointOperation;
+import io.hhplus.tdd.domain.point.dto.PointOperationResult;
+import io.hhplus.tdd.domain.point.dto.PointRequest;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * PointController 와 같은 경로를 WebFlux 로 제공 (spring.main.web-application-type=reactive)
+ */
+@RestController
+@RequestMapping("/points")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePointController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactivePointController.class);
+    private final ReactivePointService pointService;
+
+    @Autowired
+    public ReactivePointController(ReactivePointService pointService) {
+        this.pointService = pointService;
+    }
+
+    /**
+     * 특정 유저의 포인트 조회
+     */
+    @GetMapping("{id}")
+    public Mono<UserPoint> findPoints(
+            @PathVariable long id
+    ) {
+        return pointService.findPoints(id)
+                .doOnNext(point -> logger.info("id {}번 유저가 잔고({}p)를 조회했습니다.", id, point.points()));
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역 조회
+     */
+    @GetMapping("{id}/history")
+    public Flux<PointHistory> findHistory(
+            @PathVariable long id
+    ) {
+        return pointService.findHistory(id)
+                .doOnComplete(() -> logger.info("id {}번 유저가 포인트 충전/사용 내역을 조회했습니다.", id));
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역 페이지 조회
+     */
+    @GetMapping(value = "{id}/history", params = "limit")
+    public Mono<PointHistoryPage> findHistoryPage(
+            @PathVariable long id,
+            @RequestParam int limit,
+            @RequestParam(defaultValue = "0") long cursor,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to
+    ) {
+        PointHistoryQuery query = new PointHistoryQuery(cursor, limit,
+                from == null ? Long.MIN_VALUE : from,
+                to == null ? Long.MAX_VALUE : to);
+        return pointService.findHistoryPage(id, query)
+                .doOnNext(page -> logger.info("id {}번 유저가 포인트 충전/사용 내역 {}건을 조회했습니다. (cursor: {})", id, page.histories().size(), cursor));
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역 스트리밍 조회 (NDJSON)
+     */
+    @GetMapping(value = "{id}/history/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<PointHistory> streamHistory(
+            @PathVariable long id
+    ) {
+        return pointService.streamHistory(id);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전
+     */
+    @PatchMapping("{id}/charge")
+    public Mono<UserPoint> chargePoints(
+            @PathVariable long id,
+            @RequestBody PointRequest pointRequest
+    ) {
+        return pointService.chargePoints(id, pointRequest.getAmount())
+                .doOnNext(userPoint -> logger.info("id {}번 유저가 {}포인트를 충전했습니다.", id, pointRequest.getAmount()));
+    }
+
+    /**
+     * 특정 유저의 포인트 사용
+     */
+    @PatchMapping("{id}/use")
+    public Mono<UserPoint> usePoints(
+            @PathVariable long id,
+            @RequestBody PointRequest pointRequest
+    ) {
+        return pointService.usePoints(id, pointRequest.getAmount())
+                .doOnNext(userPoint -> logger.info("id {}번 유저가 {}포인트를 사용했습니다.", id, pointRequest.getAmount()));
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/사용 일괄 처리
+     */
+    @PostMapping("batch")
+    public Mono<List<PointOperationResult>> executeBatch(
+            @RequestBody List<PointOperation> operations
+    ) {
+        return pointService.executeBatch(operations)
+                .doOnNext(results -> logger.info("포인트 일괄 처리 {}건을 처리했습니다.", results.size()));
+    }
+}
@@ -1,8 +1,10 @@
 package io.hhplus.tdd.domain.point;
 
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
 import io.hhplus.tdd.domain.point.model.PointHistory;
 import io.hhplus.tdd.domain.point.model.TransactionType;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,4 +12,15 @@ public interface PointHistoryRepository {
     PointHistory insert(long userId, long amount, TransactionType type, long uptimeMillis);
 
     Optional<List<PointHistory>> selectAllByUserId(long userId);
+
+    /**
+     * 조건에 맞는 내역을 id 순으로 최대 query.limit() 건 조회
+     */
+    List<PointHistory> selectPageByUserId(long userId, PointHistoryQuery query);
+
+    /**
+     * 유저의 내역을 id 순으로 한 건씩 순회
+     * 순회 시작 시점까지 추가된 내역만 포함합니다.
+     */
+    Iterator<PointHistory> iterateByUserId(long userId);
 }
@@ -1,26 +1,98 @@
 package io.hhplus.tdd.domain.point;
 
+import io.hhplus.tdd.common.HotUserDetector;
+import io.hhplus.tdd.common.HotUserProperties;
 import io.hhplus.tdd.common.LockManager;
+import io.hhplus.tdd.common.PointCommandDispatcher;
+import io.hhplus.tdd.common.PointExecutionMode;
+import io.hhplus.tdd.common.PointExecutionProperties;
 import io.hhplus.tdd.common.PointManager;
+import io.hhplus.tdd.common.PointThreads;
+import io.hhplus.tdd.domain.point.dto.HotUser;
+import io.hhplus.tdd.domain.point.dto.PointHistoryPage;
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.dto.PointOperation;
+import io.hhplus.tdd.domain.point.dto.PointOperationResult;
 import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
 import io.hhplus.tdd.domain.point.model.UserPoint;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.awt.*;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 
 @Service
 public class PointService {
 
     private final LockManager lockManager;
     private final PointManager pointManager;
+    private final PointCommandDispatcher pointCommandDispatcher;
+    private final PointExecutionMode executionMode;
+    private final boolean lockFree;
+    private final int maxBatchSize;
+    private final ExecutorService batchExecutor;
+    private final HotUserDetector hotUserDetector;
+    private final PointCommandDispatcher hotUserDispatcher;
 
+    public PointService(LockManager lockManager, PointManager pointManager,
+                        PointCommandDispatcher pointCommandDispatcher, PointExecutionProperties executionProperties) {
+        this(lockManager, pointManager, pointCommandDispatcher, executionProperties, HotUserDetector.NONE, new HotUserProperties());
+    }
+
+    /**
+     * LOCK 모드에서 hot user 감지가 켜져 있으면, hot user 의 충전/사용은 유저별 락 경합 대신
+     * point.hot-user.batch-window 동안 모아 한 번의 잔고 저장으로 처리하는 묶음 처리 경로(GROUP_COMMIT 방식)를 사용합니다.
+     * 묶음 처리도 같은 LockManager 의 락을 잡고 수행하므로, hot user 로 전환되는 중에 직접 처리 중인 요청과 섞이지 않습니다.
+     */
     @Autowired
-    PointService(LockManager lockManager, PointManager pointManager) {
+    public PointService(LockManager lockManager, PointManager pointManager,
+                        PointCommandDispatcher pointCommandDispatcher, PointExecutionProperties executionProperties,
+                        HotUserDetector hotUserDetector, HotUserProperties hotUserProperties) {
         this.lockManager = lockManager;
         this.pointManager = pointManager;
+        this.pointCommandDispatcher = pointCommandDispatcher;
+        this.executionMode = executionProperties.getMode();
+        // 변경 기록을 남기면 기록 실패 시 되돌릴 변화량을 다른 요청이 쓰지 않도록 ATOMIC 모드에서도 락을 잡음
+        this.lockFree = executionMode == PointExecutionMode.ATOMIC && !pointManager.isJournaled();
+        this.maxBatchSize = executionProperties.getMaxBatchSize();
+        this.batchExecutor = PointThreads.newExecutor("point-batch-",
+                executionProperties.getBatchParallelism(), executionProperties.isVirtualThreads());
+        this.hotUserDetector = hotUserDetector;
+        this.hotUserDispatcher = hotUserDetector.isEnabled() && executionMode == PointExecutionMode.LOCK
+                ? new PointCommandDispatcher(pointManager, hotUserExecutionProperties(executionProperties, hotUserProperties), lockManager)
+                : null;
+    }
+
+    private static PointExecutionProperties hotUserExecutionProperties(PointExecutionProperties executionProperties,
+                                                                       HotUserProperties hotUserProperties) {
+        PointExecutionProperties hotUserExecutionProperties = new PointExecutionProperties();
+        hotUserExecutionProperties.setMode(PointExecutionMode.GROUP_COMMIT);
+        hotUserExecutionProperties.setWorkers(hotUserProperties.getWorkers());
+        hotUserExecutionProperties.setDrainLimit(executionProperties.getDrainLimit());
+        hotUserExecutionProperties.setBatchWindow(hotUserProperties.getBatchWindow());
+        hotUserExecutionProperties.setVirtualThreads(executionProperties.isVirtualThreads());
+        return hotUserExecutionProperties;
+    }
+
+    /**
+     * hot user 의 요청을 묶음 처리 경로로 보낼지 여부
+     */
+    private boolean coalesces(long userId) {
+        return hotUserDispatcher != null && hotUserDetector.isHot(userId);
+    }
+
+    public List<HotUser> findHotUsers() {
+        return hotUserDetector.hotUsers();
+    }
+
+    public LockManager getLockManager() {
+        return lockManager;
     }
 
     public Optional<UserPoint> findPoints(long userId) {
@@ -31,7 +103,29 @@ public class PointService {
         return pointManager.findHistory(userId);
     }
 
+    public Iterator<PointHistory> iterateHistory(long userId) {
+        return pointManager.iterateHistory(userId);
+    }
+
+    public PointHistoryPage findHistoryPage(long userId, PointHistoryQuery query) {
+        return pointManager.findHistoryPage(userId, query);
+    }
+
     public UserPoint chargePoints(long userId, long amountToCharge) {
+        hotUserDetector.record(userId);
+        if ( pointManager.usesStripedBalance(userId) ) {
+            // 잔고를 갱신하지 않고 sub-counter 에 더하므로 유저별 락/mailbox 를 거치지 않음
+            return pointManager.chargePoints(userId, amountToCharge);
+        }
+        if (executionMode.usesMailbox()) {
+            return await(pointCommandDispatcher.submit(userId, TransactionType.CHARGE, amountToCharge));
+        }
+        if (lockFree) {
+            return pointManager.chargePoints(userId, amountToCharge);
+        }
+        if ( coalesces(userId) ) {
+            return await(hotUserDispatcher.submit(userId, TransactionType.CHARGE, amountToCharge));
+        }
         return lockManager.executeFunctionWithLock(userId, () -> {
             try {
                 return pointManager.chargePoints(userId, amountToCharge);
@@ -42,6 +136,17 @@ public class PointService {
     }
 
     public UserPoint usePoints(long userId, long amount) {
+        hotUserDetector.record(userId);
+        if (executionMode.usesMailbox()) {
+            return await(pointCommandDispatcher.submit(userId, TransactionType.USE, amount));
+        }
+        // sub-counter 를 쓰는 유저는 ATOMIC 모드에서도 락을 잡아, 반영(fold)과 차감이 다른 사용 요청과 섞이지 않게 함
+        if (lockFree && !pointManager.usesStripedBalance(userId)) {
+            return pointManager.usePoints(userId, amount);
+        }
+        if ( coalesces(userId) ) {
+            return await(hotUserDispatcher.submit(userId, TransactionType.USE, amount));
+        }
         return lockManager.executeFunctionWithLock(userId, () -> {
             try {
                 return pointManager.usePoints(userId, amount);
@@ -50,4 +155,131 @@ public class PointService {
             }
         });
     }
+
+    /**
+     * ACTOR/GROUP_COMMIT 모드에서는 mailbox 에 적재만 하고 즉시 반환하며, LOCK/ATOMIC 모드에서는 호출 스레드에서 처리한 결과를 반환합니다.
+     * (LOCK 모드의 hot user 는 묶음 처리 경로에 적재만 하고 즉시 반환)
+     */
+    public CompletableFuture<UserPoint> chargePointsAsync(long userId, long amountToCharge) {
+        boolean striped = pointManager.usesStripedBalance(userId);
+        if (executionMode.usesMailbox() && !striped) {
+            hotUserDetector.record(userId);
+            return pointCommandDispatcher.submit(userId, TransactionType.CHARGE, amountToCharge);
+        }
+        if ( coalesces(userId) && !striped ) {
+            hotUserDetector.record(userId);
+            return hotUserDispatcher.submit(userId, TransactionType.CHARGE, amountToCharge);
+        }
+        try {
+            return CompletableFuture.completedFuture(chargePoints(userId, amountToCharge));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    public CompletableFuture<UserPoint> usePointsAsync(long userId, long amount) {
+        if (executionMode.usesMailbox()) {
+            hotUserDetector.record(userId);
+            return pointCommandDispatcher.submit(userId, TransactionType.USE, amount);
+        }
+        if ( coalesces(userId) ) {
+            hotUserDetector.record(userId);
+            return hotUserDispatcher.submit(userId, TransactionType.USE, amount);
+        }
+        try {
+            return CompletableFuture.completedFuture(usePoints(userId, amount));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/사용 명령을 일괄 처리
+     * - 같은 유저의 명령은 요청 순서대로, 서로 다른 유저의 명령은 동시에 처리합니다.
+     * - 한 건이 실패해도 나머지 명령은 계속 처리하며, 결과는 요청과 같은 순서로 반환합니다.
+     */
+    public List<PointOperationResult> executeBatch(List<PointOperation> operations) {
+        return executeBatchAsync(operations).join();
+    }
+
+    /**
+     * executeBatch 와 같으며, 모든 명령의 처리가 끝나면 완료되는 결과를 반환합니다. (PointShardRouter 가 shard 별 일괄 처리를 동시에 진행할 때 사용)
+     */
+    public CompletableFuture<List<PointOperationResult>> executeBatchAsync(List<PointOperation> operations) {
+        if ( operations == null || operations.isEmpty() || operations.size() > maxBatchSize ) {
+            throw new IllegalArgumentException("일괄 처리 명령 수는 1 이상 " + maxBatchSize + " 이하여야 합니다.");
+        }
+
+        PointOperationResult[] results = new PointOperationResult[operations.size()];
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        if ( executionMode.usesMailbox() ) {
+            // mailbox 가 유저별 순서를 보장하므로 요청 순서대로 적재만 함
+            for (int i = 0; i < operations.size(); i++) {
+                int index = i;
+                PointOperation operation = operations.get(index);
+                tasks.add(submitOperation(operation).handle((userPoint, e) -> {
+                    results[index] = e == null
+                            ? PointOperationResult.success(operation, userPoint)
+                            : PointOperationResult.failure(operation, unwrap(e).getMessage());
+                    return null;
+                }));
+            }
+        } else {
+            Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+            for (int i = 0; i < operations.size(); i++) {
+                indexesByUser.computeIfAbsent(operations.get(i).userId(), key -> new ArrayList<>()).add(i);
+            }
+            for (List<Integer> indexes : indexesByUser.values()) {
+                tasks.add(CompletableFuture.runAsync(() -> {
+                    for (int index : indexes) {
+                        results[index] = executeOperation(operations.get(index));
+                    }
+                }, batchExecutor));
+            }
+        }
+        return CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> Arrays.asList(results));
+    }
+
+    private CompletableFuture<UserPoint> submitOperation(PointOperation operation) {
+        if ( operation.type() == null ) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("충전/사용 유형이 없습니다."));
+        }
+        hotUserDetector.record(operation.userId());
+        return pointCommandDispatcher.submit(operation.userId(), operation.type(), operation.amount());
+    }
+
+    private PointOperationResult executeOperation(PointOperation operation) {
+        try {
+            if ( operation.type() == null ) {
+                throw new IllegalArgumentException("충전/사용 유형이 없습니다.");
+            }
+            UserPoint userPoint = operation.type() == TransactionType.CHARGE
+                    ? chargePoints(operation.userId(), operation.amount())
+                    : usePoints(operation.userId(), operation.amount());
+            return PointOperationResult.success(operation, userPoint);
+        } catch (RuntimeException e) {
+            return PointOperationResult.failure(operation, e.getMessage());
+        }
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchExecutor.shutdown();
+        if ( hotUserDispatcher != null ) {
+            hotUserDispatcher.shutdown();
+        }
+    }
+
+    private UserPoint await(CompletableFuture<UserPoint> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            throw new RuntimeException(e.getCause().getMessage());
+        }
+    }
 }
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.domain.point;
+
+import io.hhplus.tdd.common.PointCommandDispatcher;
+
+/**
+ * 하나의 shard 를 처리하는 PointService 와 그 mailbox worker
+ */
+public record PointShard(
+        PointService pointService,
+        PointCommandDispatcher pointCommandDispatcher
+) {
+    public void shutdown() {
+        pointService.shutdown();
+        pointCommandDispatcher.shutdown();
+    }
+}
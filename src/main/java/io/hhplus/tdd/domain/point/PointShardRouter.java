@@ -0,0 +1,139 @@
+package io.hhplus.tdd.domain.point;
+
+import io.hhplus.tdd.common.UserIdHash;
+import io.hhplus.tdd.domain.point.dto.HotUser;
+import io.hhplus.tdd.domain.point.dto.PointHistoryPage;
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.dto.PointOperation;
+import io.hhplus.tdd.domain.point.dto.PointOperationResult;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * userId 해시로 shard 를 골라 해당 shard 의 PointService 에 요청을 전달하는 컴포넌트
+ * - shard 마다 LockManager, 저장소, mailbox worker, 일괄 처리 스레드가 따로 있으므로 서로 다른 shard 의 유저는 어떤 구조도 공유하지 않습니다.
+ * - 같은 유저는 항상 같은 shard 로 전달되므로 유저별 순서와 정합성은 shard 안에서 그대로 보장됩니다.
+ * - 일괄 처리는 명령을 shard 별로 나눠 동시에 처리한 뒤 요청 순서대로 결과를 합칩니다.
+ */
+public class PointShardRouter implements AutoCloseable {
+
+    private final PointShard[] shards;
+    private final int maxBatchSize;
+
+    public PointShardRouter(List<PointShard> shards, int maxBatchSize) {
+        if ( shards.isEmpty() ) {
+            throw new IllegalArgumentException("shard 는 1개 이상이어야 합니다.");
+        }
+        this.shards = shards.toArray(PointShard[]::new);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public PointShard shard(int index) {
+        return shards[index];
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    public int shardOf(long userId) {
+        return UserIdHash.bucket(userId, shards.length);
+    }
+
+    /**
+     * hot user 감지는 모든 shard 가 같은 HotUserDetector 를 사용하므로 첫 shard 에서 조회
+     */
+    public List<HotUser> findHotUsers() {
+        return shards[0].pointService().findHotUsers();
+    }
+
+    public Optional<UserPoint> findPoints(long userId) {
+        return serviceFor(userId).findPoints(userId);
+    }
+
+    public Optional<List<PointHistory>> findHistory(long userId) {
+        return serviceFor(userId).findHistory(userId);
+    }
+
+    public Iterator<PointHistory> iterateHistory(long userId) {
+        return serviceFor(userId).iterateHistory(userId);
+    }
+
+    public PointHistoryPage findHistoryPage(long userId, PointHistoryQuery query) {
+        return serviceFor(userId).findHistoryPage(userId, query);
+    }
+
+    public UserPoint chargePoints(long userId, long amountToCharge) {
+        return serviceFor(userId).chargePoints(userId, amountToCharge);
+    }
+
+    public UserPoint usePoints(long userId, long amount) {
+        return serviceFor(userId).usePoints(userId, amount);
+    }
+
+    public CompletableFuture<UserPoint> chargePointsAsync(long userId, long amountToCharge) {
+        return serviceFor(userId).chargePointsAsync(userId, amountToCharge);
+    }
+
+    public CompletableFuture<UserPoint> usePointsAsync(long userId, long amount) {
+        return serviceFor(userId).usePointsAsync(userId, amount);
+    }
+
+    public List<PointOperationResult> executeBatch(List<PointOperation> operations) {
+        if ( shards.length == 1 ) {
+            return shards[0].pointService().executeBatch(operations);
+        }
+        if ( operations == null || operations.isEmpty() || operations.size() > maxBatchSize ) {
+            throw new IllegalArgumentException("일괄 처리 명령 수는 1 이상 " + maxBatchSize + " 이하여야 합니다.");
+        }
+
+        List<List<Integer>> indexesByShard = new ArrayList<>(shards.length);
+        List<List<PointOperation>> operationsByShard = new ArrayList<>(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            indexesByShard.add(new ArrayList<>());
+            operationsByShard.add(new ArrayList<>());
+        }
+        for (int i = 0; i < operations.size(); i++) {
+            int shard = shardOf(operations.get(i).userId());
+            indexesByShard.get(shard).add(i);
+            operationsByShard.get(shard).add(operations.get(i));
+        }
+
+        PointOperationResult[] results = new PointOperationResult[operations.size()];
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (int shard = 0; shard < shards.length; shard++) {
+            if ( operationsByShard.get(shard).isEmpty() ) {
+                continue;
+            }
+            List<Integer> indexes = indexesByShard.get(shard);
+            tasks.add(shards[shard].pointService().executeBatchAsync(operationsByShard.get(shard)).thenAccept(shardResults -> {
+                for (int i = 0; i < shardResults.size(); i++) {
+                    results[indexes.get(i)] = shardResults.get(i);
+                }
+            }));
+        }
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 모든 shard 의 worker 와 일괄 처리 스레드 종료
+     */
+    @Override
+    public void close() {
+        for (PointShard shard : shards) {
+            shard.shutdown();
+        }
+    }
+
+    private PointService serviceFor(long userId) {
+        return shards[shardOf(userId)].pointService();
+    }
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.domain.point;
+
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * PointHistoryRepository 의 non-blocking 버전
+ */
+public interface ReactivePointHistoryRepository {
+
+    Mono<PointHistory> insert(long userId, long amount, TransactionType type, long uptimeMillis);
+
+    Flux<PointHistory> selectAllByUserId(long userId);
+
+    Flux<PointHistory> selectPageByUserId(long userId, PointHistoryQuery query);
+}
@@ -0,0 +1,115 @@
+package io.hhplus.tdd.domain.point;
+
+import io.hhplus.tdd.common.HotUserProperties;
+import io.hhplus.tdd.common.PointExecutionProperties;
+import io.hhplus.tdd.common.ReactivePointManager;
+import io.hhplus.tdd.common.StripedBalanceProperties;
+import io.hhplus.tdd.domain.point.dto.PointHistoryPage;
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.dto.PointOperation;
+import io.hhplus.tdd.domain.point.dto.PointOperationResult;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PointService 의 non-blocking 버전 (spring.main.web-application-type=reactive)
+ * point.execution.mode 는 LOCK/ATOMIC 만 지원하며, mailbox 모드(ACTOR/GROUP_COMMIT), striped balance, hot user 묶음 처리를
+ * 설정하면 무시하지 않고 시작에 실패합니다.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePointService {
+
+    private final ReactivePointManager pointManager;
+    private final int maxBatchSize;
+
+    @Autowired
+    ReactivePointService(ReactivePointManager pointManager, PointExecutionProperties executionProperties,
+                         StripedBalanceProperties stripedBalanceProperties, HotUserProperties hotUserProperties) {
+        if ( executionProperties.getMode().usesMailbox() ) {
+            throw new IllegalStateException("reactive 스택은 point.execution.mode=" + executionProperties.getMode() + " 를 지원하지 않습니다. (LOCK/ATOMIC 만 지원)");
+        }
+        if ( !stripedBalanceProperties.getUserIds().isEmpty() ) {
+            throw new IllegalStateException("reactive 스택은 point.striped-balance.user-ids 를 지원하지 않습니다.");
+        }
+        if ( hotUserProperties.isEnabled() ) {
+            throw new IllegalStateException("reactive 스택은 point.hot-user.enabled 를 지원하지 않습니다.");
+        }
+        this.pointManager = pointManager;
+        this.maxBatchSize = executionProperties.getMaxBatchSize();
+    }
+
+    public Mono<UserPoint> findPoints(long userId) {
+        return pointManager.findPoints(userId);
+    }
+
+    public Flux<PointHistory> findHistory(long userId) {
+        return pointManager.findHistory(userId);
+    }
+
+    public Flux<PointHistory> streamHistory(long userId) {
+        return pointManager.streamHistory(userId);
+    }
+
+    public Mono<PointHistoryPage> findHistoryPage(long userId, PointHistoryQuery query) {
+        return pointManager.findHistoryPage(userId, query);
+    }
+
+    public Mono<UserPoint> chargePoints(long userId, long amountToCharge) {
+        return pointManager.chargePoints(userId, amountToCharge);
+    }
+
+    public Mono<UserPoint> usePoints(long userId, long amount) {
+        return pointManager.usePoints(userId, amount);
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/사용 명령을 일괄 처리
+     * - 같은 유저의 명령은 요청 순서대로(concatMap), 서로 다른 유저의 명령은 동시에 처리합니다.
+     * - 한 건이 실패해도 나머지 명령은 계속 처리하며, 결과는 요청과 같은 순서로 반환합니다.
+     */
+    public Mono<List<PointOperationResult>> executeBatch(List<PointOperation> operations) {
+        if ( operations == null || operations.isEmpty() || operations.size() > maxBatchSize ) {
+            return Mono.error(new IllegalArgumentException("일괄 처리 명령 수는 1 이상 " + maxBatchSize + " 이하여야 합니다."));
+        }
+
+        // groupBy 는 유저 수가 flatMap 동시 구독 수를 넘으면 멈추므로 미리 유저별로 나눔
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            indexesByUser.computeIfAbsent(operations.get(i).userId(), key -> new ArrayList<>()).add(i);
+        }
+
+        PointOperationResult[] results = new PointOperationResult[operations.size()];
+        return Flux.fromIterable(indexesByUser.values())
+                .flatMap(indexes -> Flux.fromIterable(indexes)
+                        .concatMap(index -> executeOperation(operations.get(index))
+                                .doOnNext(result -> results[index] = result)))
+                .then(Mono.fromCallable(() -> Arrays.asList(results)));
+    }
+
+    private Mono<PointOperationResult> executeOperation(PointOperation operation) {
+        Mono<UserPoint> result;
+        if ( operation.type() == null ) {
+            result = Mono.error(new IllegalArgumentException("충전/사용 유형이 없습니다."));
+        } else if ( operation.type() == TransactionType.CHARGE ) {
+            result = chargePoints(operation.userId(), operation.amount());
+        } else {
+            result = usePoints(operation.userId(), operation.amount());
+        }
+        return result
+                .map(userPoint -> PointOperationResult.success(operation, userPoint))
+                .onErrorResume(e -> Mono.just(PointOperationResult.failure(operation, e.getMessage())));
+    }
+}
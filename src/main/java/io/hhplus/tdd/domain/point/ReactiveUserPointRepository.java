@@ -0,0 +1,17 @@
+package io.hhplus.tdd.domain.point;
+
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import reactor.core.publisher.Mono;
+
+/**
+ * UserPointRepository 의 non-blocking 버전
+ * 유저 정보가 없거나 차감할 수 없는 경우 빈 Mono 를 반환합니다.
+ */
+public interface ReactiveUserPointRepository {
+
+    Mono<UserPoint> selectById(long id);
+
+    Mono<UserPoint> addAndGet(long id, long amount);
+
+    Mono<UserPoint> tryDebit(long id, long amount);
+}
@@ -9,4 +9,15 @@ public interface UserPointRepository {
     Optional<UserPoint> selectById(long id);
 
     UserPoint insertOrUpdate(long id, long amount);
+
+    /**
+     * 포인트를 amount 만큼 원자적으로 증가시킨 결과 (유저 정보가 없으면 0 에서 시작)
+     */
+    UserPoint addAndGet(long id, long amount);
+
+    /**
+     * 잔고가 amount 이상일 때만 원자적으로 차감한 결과
+     * 유저 정보가 없거나 잔고가 부족하면 차감하지 않고 빈 값을 반환합니다.
+     */
+    Optional<UserPoint> tryDebit(long id, long amount);
 }
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.domain.point.dto;
+
+/**
+ * hot user 와 최근 충전/사용 요청 수 추정치
+ */
+public record HotUser(
+        long userId,
+        long estimatedCount
+) {
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.domain.point.dto;
+
+import io.hhplus.tdd.domain.point.model.PointHistory;
+
+import java.util.List;
+
+/**
+ * 포인트 내역 페이지
+ * nextCursor 는 다음 페이지 조회 시 cursor 로 사용할 값이며, 마지막 페이지면 null 입니다.
+ */
+public record PointHistoryPage(
+        List<PointHistory> histories,
+        Long nextCursor
+) {
+    /**
+     * limit + 1 건까지 조회한 결과로 페이지 생성 (limit 건을 넘으면 다음 페이지가 있음)
+     */
+    public static PointHistoryPage of(List<PointHistory> histories, int limit) {
+        if ( histories.size() <= limit ) {
+            return new PointHistoryPage(histories, null);
+        }
+        List<PointHistory> page = histories.subList(0, limit);
+        return new PointHistoryPage(page, page.get(page.size() - 1).id());
+    }
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.domain.point.dto;
+
+/**
+ * 포인트 내역 페이지 조회 조건
+ * - afterId : 이 id 보다 큰 내역부터 조회 (첫 페이지는 0)
+ * - limit : 최대 조회 건수
+ * - fromMillis, toMillis : updateMillis 가 이 범위(양 끝 포함)인 내역만 조회
+ */
+public record PointHistoryQuery(
+        long afterId,
+        int limit,
+        long fromMillis,
+        long toMillis
+) {
+    public boolean matches(long id, long updateMillis) {
+        return id > afterId && updateMillis >= fromMillis && updateMillis <= toMillis;
+    }
+}
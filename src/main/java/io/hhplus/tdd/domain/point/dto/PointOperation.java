@@ -0,0 +1,13 @@
+package io.hhplus.tdd.domain.point.dto;
+
+import io.hhplus.tdd.domain.point.model.TransactionType;
+
+/**
+ * 일괄 처리 요청의 포인트 충전/사용 한 건
+ */
+public record PointOperation(
+        long userId,
+        TransactionType type,
+        long amount
+) {
+}
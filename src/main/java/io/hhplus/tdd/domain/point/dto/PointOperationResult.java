@@ -0,0 +1,25 @@
+package io.hhplus.tdd.domain.point.dto;
+
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+
+/**
+ * 일괄 처리 요청 한 건의 처리 결과
+ * - 성공 시 처리 후 잔고(userPoint), 실패 시 실패 사유(message)를 담습니다.
+ */
+public record PointOperationResult(
+        long userId,
+        TransactionType type,
+        long amount,
+        boolean success,
+        UserPoint userPoint,
+        String message
+) {
+    public static PointOperationResult success(PointOperation operation, UserPoint userPoint) {
+        return new PointOperationResult(operation.userId(), operation.type(), operation.amount(), true, userPoint, null);
+    }
+
+    public static PointOperationResult failure(PointOperation operation, String message) {
+        return new PointOperationResult(operation.userId(), operation.type(), operation.amount(), false, null, message);
+    }
+}
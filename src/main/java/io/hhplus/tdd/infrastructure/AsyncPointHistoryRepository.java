@@ -0,0 +1,186 @@
+package io.hhplus.tdd.infrastructure;
+
+import io.hhplus.tdd.common.PointThreads;
+import io.hhplus.tdd.domain.point.PointHistoryRepository;
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 내역 추가를 충전/사용 처리 경로 밖으로 미루는 PointHistoryRepository 데코레이터
+ * - insert 는 크기 제한 큐에 적재만 하고 즉시 반환하며, 단일 writer 스레드가 최대 batchSize 건씩 꺼내 원본 저장소에 기록합니다.
+ * - writer 가 하나이므로 적재 순서(유저별 충전/사용 순서)대로 기록됩니다.
+ * - 큐가 가득 차면 insert 가 빈 자리가 생길 때까지 대기합니다. (backpressure)
+ * - 조회는 호출 시점까지 적재된 내역이 모두 기록된 뒤 수행하므로, 방금 추가한 내역도 조회됩니다.
+ * - close() 시 남은 내역을 모두 기록한 뒤 writer 를 종료하며, 이후 insert 는 원본 저장소에 바로 기록합니다.
+ * - 적재 시점에는 id 가 발급되지 않으므로 insert 가 반환하는 PointHistory 의 id 는 0 입니다.
+ */
+public class AsyncPointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncPointHistoryRepository.class);
+
+    private final PointHistoryRepository delegate;
+    private final BlockingQueue<PointHistory> queue;
+    private final int batchSize;
+    private final Thread writer;
+    /**
+     * 적재 순서와 적재 수(enqueued)가 어긋나지 않도록 적재를 직렬화
+     * (writer 는 적재 순서대로 기록하므로, written 이 n 이상이면 처음 적재된 n 건이 모두 기록된 것)
+     */
+    private final ReentrantLock enqueueLock = new ReentrantLock();
+    private final AtomicLong enqueued = new AtomicLong();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Condition flushed = flushLock.newCondition();
+    private volatile long written;
+    private volatile boolean closed;
+
+    public AsyncPointHistoryRepository(PointHistoryRepository delegate, int queueCapacity, int batchSize) {
+        if ( queueCapacity <= 0 || batchSize <= 0 ) {
+            throw new IllegalArgumentException("큐 크기와 batch 크기는 0보다 커야 합니다.");
+        }
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.writer = PointThreads.named("point-history-writer", false).newThread(this::writeLoop);
+        this.writer.start();
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long uptimeMillis) {
+        PointHistory pointHistory = new PointHistory(0L, userId, amount, type, uptimeMillis);
+        if ( closed ) {
+            return delegate.insert(userId, amount, type, uptimeMillis);
+        }
+        enqueueLock.lock();
+        try {
+            queue.put(pointHistory);
+            enqueued.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("내역 적재 대기 중 인터럽트가 발생했습니다.");
+        } finally {
+            enqueueLock.unlock();
+        }
+        if ( closed && !writer.isAlive() ) {
+            // close() 와 경합해 writer 종료 후 적재된 내역
+            drainRemaining();
+        }
+        return pointHistory;
+    }
+
+    @Override
+    public Optional<List<PointHistory>> selectAllByUserId(long userId) {
+        awaitFlushed();
+        return delegate.selectAllByUserId(userId);
+    }
+
+    @Override
+    public List<PointHistory> selectPageByUserId(long userId, PointHistoryQuery query) {
+        awaitFlushed();
+        return delegate.selectPageByUserId(userId, query);
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateByUserId(long userId) {
+        awaitFlushed();
+        return delegate.iterateByUserId(userId);
+    }
+
+    /**
+     * 기록 대기 중인 내역 수
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drainRemaining();
+    }
+
+    /**
+     * 호출 시점까지 적재된 내역이 모두 기록될 때까지 대기
+     */
+    private void awaitFlushed() {
+        long target = enqueued.get();
+        if ( written >= target ) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            while (written < target && writer.isAlive()) {
+                flushed.await(100, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("내역 기록 대기 중 인터럽트가 발생했습니다.");
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void writeLoop() {
+        List<PointHistory> batch = new ArrayList<>(batchSize);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                PointHistory first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if ( first == null ) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+            } catch (InterruptedException e) {
+                // close() 로만 종료하며, 남은 내역은 계속 기록
+                continue;
+            }
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void drainRemaining() {
+        List<PointHistory> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        write(remaining);
+    }
+
+    private void write(List<PointHistory> batch) {
+        for (PointHistory pointHistory : batch) {
+            try {
+                delegate.insert(pointHistory.userId(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+            } catch (RuntimeException e) {
+                logger.error(String.format("id %d번 유저의 포인트 내역 기록에 실패했습니다.", pointHistory.userId()), e);
+            }
+        }
+        markWritten(batch.size());
+    }
+
+    private void markWritten(int count) {
+        flushLock.lock();
+        try {
+            written += count;
+            flushed.signalAll();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.infrastructure;
+
+/**
+ * UserPoint 캐시 교체 정책
+ * - LRU : 가장 오래 전에 사용된 항목부터 제거
+ * - LFU : 가장 적게 사용된 항목부터 제거 (사용 횟수가 같으면 먼저 들어온 항목부터)
+ */
+public enum CacheEvictionPolicy {
+    LRU, LFU
+}
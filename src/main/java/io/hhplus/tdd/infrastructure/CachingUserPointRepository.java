@@ -0,0 +1,374 @@
+package io.hhplus.tdd.infrastructure;
+
+import io.hhplus.tdd.common.UserIdHash;
+import io.hhplus.tdd.domain.point.UserPointRepository;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * UserPointRepository 앞에 두는 크기 제한 조회 캐시
+ * - 조회 시 캐시에 있으면 원본 저장소를 거치지 않고 반환하고, 없으면 원본 저장소에서 조회한 값을 캐시합니다.
+ * - insertOrUpdate/addAndGet/tryDebit 은 원본 저장소가 반환한 결과를 segment 락 안에서 캐시에 저장(write-through)하므로, 충전/사용 직후의 조회도 캐시에서 최신 값을 반환합니다.
+ * - 유저별로 진행 중인 저장 수와 저장 횟수를 기록해, 결과가 원본 저장소의 반영 순서와 다르게 도착할 수 있는 경우에는 캐시하지 않습니다.
+ *   - 같은 유저의 저장이 겹치면 (ATOMIC 모드) 어느 결과가 마지막인지 알 수 없으므로 항목을 제거하고, 다음 조회가 원본 저장소에서 다시 읽음
+ *   - 조회하는 사이 같은 유저의 저장이 시작되었으면 조회한 값은 캐시하지 않음 (다른 유저의 저장과는 무관)
+ * - 캐시는 userId 해시로 나눈 segment 마다 별도의 락을 사용하며, 원본 저장소 호출은 락 밖에서 수행합니다.
+ */
+public class CachingUserPointRepository implements UserPointRepository {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final UserPointRepository delegate;
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachingUserPointRepository(UserPointRepository delegate, int maxSize, CacheEvictionPolicy evictionPolicy) {
+        if ( maxSize < SEGMENT_COUNT ) {
+            throw new IllegalArgumentException("캐시 크기는 " + SEGMENT_COUNT + " 이상이어야 합니다.");
+        }
+        this.delegate = delegate;
+        int segmentCapacity = maxSize / SEGMENT_COUNT;
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = switch (evictionPolicy) {
+                case LRU -> new LruSegment(segmentCapacity);
+                case LFU -> new LfuSegment(segmentCapacity);
+            };
+        }
+    }
+
+    @Override
+    public Optional<UserPoint> selectById(long id) {
+        Segment segment = segmentFor(id);
+        UserPoint cached = segment.locked(() -> segment.get(id));
+        if ( cached != null ) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+
+        misses.increment();
+        long writesAtStart = segment.locked(() -> segment.beginRead(id));
+        Optional<UserPoint> userPoint = Optional.empty();
+        try {
+            userPoint = delegate.selectById(id);
+            return userPoint;
+        } finally {
+            UserPoint found = userPoint.orElse(null);
+            segment.locked(() -> {
+                if ( segment.endRead(id, writesAtStart) && found != null && !segment.contains(id) ) {
+                    segment.put(id, found);
+                }
+                return null;
+            });
+        }
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        return writeThrough(id, () -> Optional.of(delegate.insertOrUpdate(id, amount))).get();
+    }
+
+    @Override
+    public UserPoint addAndGet(long id, long amount) {
+        return writeThrough(id, () -> Optional.of(delegate.addAndGet(id, amount))).get();
+    }
+
+    @Override
+    public Optional<UserPoint> tryDebit(long id, long amount) {
+        return writeThrough(id, () -> delegate.tryDebit(id, amount));
+    }
+
+    public CacheStats stats() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.locked(segment::size);
+        }
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    /**
+     * 원본 저장소에 저장하고, 같은 유저의 다른 저장과 겹치지 않았으면 반환된 결과를 캐시
+     * (실패한 저장과 차감되지 않은 tryDebit 은 원본 저장소의 상태를 확신할 수 없으므로 항목을 제거)
+     */
+    private Optional<UserPoint> writeThrough(long id, Supplier<Optional<UserPoint>> write) {
+        Segment segment = segmentFor(id);
+        segment.locked(() -> segment.beginWrite(id));
+        Optional<UserPoint> written = Optional.empty();
+        try {
+            written = write.get();
+            return written;
+        } finally {
+            UserPoint result = written.orElse(null);
+            segment.locked(() -> segment.endWrite(id, result));
+        }
+    }
+
+    private Segment segmentFor(long id) {
+        return segments[UserIdHash.spread(id) & (SEGMENT_COUNT - 1)];
+    }
+
+    public record CacheStats(
+            long hits,
+            long misses,
+            long evictions,
+            int size
+    ) {
+    }
+
+    private abstract class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        protected final int capacity;
+        /**
+         * 조회(miss)/저장이 진행 중인 유저의 상태 (lock 안에서만 접근, 진행 중인 요청이 없으면 제거)
+         */
+        private final Map<Long, Access> accesses = new HashMap<>();
+
+        Segment(int capacity) {
+            this.capacity = capacity;
+        }
+
+        <T> T locked(Supplier<T> function) {
+            lock.lock();
+            try {
+                return function.get();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 원본 저장소 조회 시작, 조회 결과를 캐시해도 되는지 확인할 때 쓸 저장 횟수를 반환 (저장이 진행 중이면 -1)
+         */
+        long beginRead(long id) {
+            Access access = accesses.computeIfAbsent(id, key -> new Access());
+            access.active++;
+            return access.writing > 0 ? -1 : access.writes;
+        }
+
+        /**
+         * 원본 저장소 조회 종료, 조회하는 동안 이 유저의 저장이 없었으면 true
+         */
+        boolean endRead(long id, long writesAtStart) {
+            Access access = accesses.get(id);
+            boolean current = writesAtStart >= 0 && access.writes == writesAtStart && access.writing == 0;
+            release(id, access);
+            return current;
+        }
+
+        Void beginWrite(long id) {
+            Access access = accesses.computeIfAbsent(id, key -> new Access());
+            access.active++;
+            access.writes++;
+            if ( access.writing > 0 ) {
+                access.overlapped = true;
+            }
+            access.writing++;
+            return null;
+        }
+
+        /**
+         * 원본 저장소 저장 종료, 겹친 저장이 없었으면 결과를 캐시하고 아니면 항목을 제거
+         */
+        Void endWrite(long id, UserPoint written) {
+            Access access = accesses.get(id);
+            if ( written != null && !access.overlapped ) {
+                put(id, written);
+            } else {
+                remove(id);
+            }
+            access.writing--;
+            if ( access.writing == 0 ) {
+                access.overlapped = false;
+            }
+            release(id, access);
+            return null;
+        }
+
+        private void release(long id, Access access) {
+            access.active--;
+            if ( access.active == 0 ) {
+                accesses.remove(id);
+            }
+        }
+
+        /**
+         * 사용 기록을 남기며 조회
+         */
+        abstract UserPoint get(long id);
+
+        abstract boolean contains(long id);
+
+        abstract UserPoint put(long id, UserPoint userPoint);
+
+        abstract UserPoint remove(long id);
+
+        abstract int size();
+    }
+
+    private class LruSegment extends Segment {
+        private final LinkedHashMap<Long, UserPoint> entries;
+
+        LruSegment(int capacity) {
+            super(capacity);
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, UserPoint> eldest) {
+                    if ( size() > LruSegment.this.capacity ) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        @Override
+        UserPoint get(long id) {
+            return entries.get(id);
+        }
+
+        @Override
+        boolean contains(long id) {
+            return entries.containsKey(id);
+        }
+
+        @Override
+        UserPoint put(long id, UserPoint userPoint) {
+            return entries.put(id, userPoint);
+        }
+
+        @Override
+        UserPoint remove(long id) {
+            return entries.remove(id);
+        }
+
+        @Override
+        int size() {
+            return entries.size();
+        }
+    }
+
+    /**
+     * 사용 횟수별 묶음(bucket)을 유지해 O(1)로 가장 적게 사용된 항목을 찾는 LFU
+     */
+    private class LfuSegment extends Segment {
+        private final Map<Long, Node> nodes = new HashMap<>();
+        private final Map<Integer, LinkedHashSet<Long>> buckets = new HashMap<>();
+        private int minFrequency;
+
+        LfuSegment(int capacity) {
+            super(capacity);
+        }
+
+        @Override
+        UserPoint get(long id) {
+            Node node = nodes.get(id);
+            if ( node == null ) {
+                return null;
+            }
+            touch(id, node);
+            return node.userPoint;
+        }
+
+        @Override
+        boolean contains(long id) {
+            return nodes.containsKey(id);
+        }
+
+        @Override
+        UserPoint put(long id, UserPoint userPoint) {
+            Node node = nodes.get(id);
+            if ( node != null ) {
+                UserPoint previous = node.userPoint;
+                node.userPoint = userPoint;
+                touch(id, node);
+                return previous;
+            }
+            if ( nodes.size() >= capacity ) {
+                evict();
+            }
+            nodes.put(id, new Node(userPoint));
+            buckets.computeIfAbsent(1, frequency -> new LinkedHashSet<>()).add(id);
+            minFrequency = 1;
+            return null;
+        }
+
+        @Override
+        UserPoint remove(long id) {
+            Node node = nodes.remove(id);
+            if ( node == null ) {
+                return null;
+            }
+            LinkedHashSet<Long> bucket = buckets.get(node.frequency);
+            bucket.remove(id);
+            if ( bucket.isEmpty() ) {
+                // minFrequency 는 다음 제거 시점에 다시 계산
+                buckets.remove(node.frequency);
+            }
+            return node.userPoint;
+        }
+
+        @Override
+        int size() {
+            return nodes.size();
+        }
+
+        private void touch(long id, Node node) {
+            LinkedHashSet<Long> bucket = buckets.get(node.frequency);
+            bucket.remove(id);
+            if ( bucket.isEmpty() ) {
+                buckets.remove(node.frequency);
+                if ( minFrequency == node.frequency ) {
+                    minFrequency++;
+                }
+            }
+            node.frequency++;
+            buckets.computeIfAbsent(node.frequency, frequency -> new LinkedHashSet<>()).add(id);
+        }
+
+        private void evict() {
+            if ( !buckets.containsKey(minFrequency) ) {
+                minFrequency = Collections.min(buckets.keySet());
+            }
+            LinkedHashSet<Long> bucket = buckets.get(minFrequency);
+            Long victim = bucket.iterator().next();
+            bucket.remove(victim);
+            if ( bucket.isEmpty() ) {
+                buckets.remove(minFrequency);
+            }
+            nodes.remove(victim);
+            evictions.increment();
+        }
+    }
+
+    /**
+     * 유저별 진행 중인 원본 저장소 접근
+     * - active: 진행 중인 조회(miss)와 저장 수, writing: 진행 중인 저장 수, writes: 시작된 저장 수
+     * - overlapped: 진행 중인 저장이 있는 동안 다른 저장이 시작됨 (진행 중인 저장이 모두 끝나면 초기화)
+     */
+    private static class Access {
+        private int active;
+        private int writing;
+        private long writes;
+        private boolean overlapped;
+    }
+
+    private static class Node {
+        private UserPoint userPoint;
+        private int frequency = 1;
+
+        Node(UserPoint userPoint) {
+            this.userPoint = userPoint;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package io.hhplus.tdd.infrastructure;
+
+import io.hhplus.tdd.domain.point.PointHistoryRepository;
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저별 인덱스를 가진 PointHistory 저장소
+ * - 유저마다 고정 크기 chunk 단위의 컬럼(id, amount, type, updateMillis) 배열에 내역을 이어 붙입니다.
+ * - 조회는 해당 유저의 내역만 읽으므로 O(유저 내역 수)이며, 락 없이 수행됩니다.
+ * - id 는 전역 AtomicLong 으로 발급하고, 추가는 유저 단위로만 직렬화되어 서로 다른 유저 간에는 경합이 없습니다.
+ *   (가상 스레드가 대기 중 carrier 스레드를 점유하지 않도록 synchronized 대신 ReentrantLock 사용)
+ * - 유저별 내역은 id 오름차순으로 쌓이므로, 페이지 조회 시 cursor 위치를 이진 탐색으로 바로 찾습니다.
+ * - 유저의 내역이 시간 순서대로 쌓인 동안은 시간 범위의 시작도 이진 탐색으로 찾고 범위를 지나면 멈추며,
+ *   순서가 어긋난 내역이 있으면(ATOMIC 모드 등) chunk 별 최소/최대 시각으로 범위 밖의 chunk 를 건너뜁니다.
+ * - 순회(iterateByUserId)는 목록을 만들지 않고 chunk 를 직접 읽어 한 건씩 반환합니다.
+ */
+public class IndexedPointHistoryRepository implements PointHistoryRepository {
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final AtomicLong cursor = new AtomicLong(1);
+    private final Map<Long, UserHistory> index = new ConcurrentHashMap<>();
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long uptimeMillis) {
+        return index.computeIfAbsent(userId, key -> new UserHistory(userId))
+                .append(cursor, amount, type, uptimeMillis);
+    }
+
+    @Override
+    public Optional<List<PointHistory>> selectAllByUserId(long userId) {
+        UserHistory userHistory = index.get(userId);
+        if ( userHistory == null || userHistory.size == 0 ) {
+            return Optional.empty();
+        }
+        return Optional.of(userHistory.toList());
+    }
+
+    @Override
+    public List<PointHistory> selectPageByUserId(long userId, PointHistoryQuery query) {
+        UserHistory userHistory = index.get(userId);
+        if ( userHistory == null ) {
+            return List.of();
+        }
+        return userHistory.page(query);
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateByUserId(long userId) {
+        UserHistory userHistory = index.get(userId);
+        if ( userHistory == null ) {
+            return Collections.emptyIterator();
+        }
+        return userHistory.iterator();
+    }
+
+    /**
+     * 한 유저의 내역을 chunk 단위 컬럼 배열로 보관
+     * size 는 모든 컬럼을 기록한 뒤에 갱신(volatile)되므로, 읽는 쪽은 size 까지의 행을 락 없이 읽을 수 있습니다.
+     */
+    private static class UserHistory {
+        private static final int CHUNK_SHIFT = 5;
+        private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+        private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+        private final long userId;
+        private final ReentrantLock appendLock = new ReentrantLock();
+        private volatile Chunk[] chunks = new Chunk[1];
+        private volatile int size;
+        /**
+         * 모든 내역이 updateMillis 오름차순으로 추가되었는지 여부 (size 보다 먼저 기록)
+         */
+        private volatile boolean timeOrdered = true;
+        private long lastMillis = Long.MIN_VALUE;
+
+        UserHistory(long userId) {
+            this.userId = userId;
+        }
+
+        PointHistory append(AtomicLong cursor, long amount, TransactionType type, long updateMillis) {
+            appendLock.lock();
+            try {
+                int row = size;
+                int chunkIndex = row >>> CHUNK_SHIFT;
+                Chunk[] current = chunks;
+                if ( chunkIndex == current.length ) {
+                    Chunk[] grown = new Chunk[current.length << 1];
+                    System.arraycopy(current, 0, grown, 0, current.length);
+                    chunks = current = grown;
+                }
+                if ( current[chunkIndex] == null ) {
+                    current[chunkIndex] = new Chunk();
+                }
+
+                long id = cursor.getAndIncrement();
+                current[chunkIndex].write(row & CHUNK_MASK, id, amount, type, updateMillis);
+                if ( updateMillis < lastMillis ) {
+                    timeOrdered = false;
+                }
+                lastMillis = Math.max(lastMillis, updateMillis);
+                size = row + 1;
+                return new PointHistory(id, userId, amount, type, updateMillis);
+            } finally {
+                appendLock.unlock();
+            }
+        }
+
+        List<PointHistory> page(PointHistoryQuery query) {
+            int rows = size;
+            boolean ordered = timeOrdered;
+            Chunk[] current = chunks;
+            List<PointHistory> result = new ArrayList<>(Math.min(query.limit(), rows));
+            int row = firstRowAfter(current, rows, query.afterId());
+            if ( ordered ) {
+                row = Math.max(row, firstRowFrom(current, rows, query.fromMillis()));
+            }
+            while (row < rows && result.size() < query.limit()) {
+                Chunk chunk = current[row >>> CHUNK_SHIFT];
+                if ( !chunk.overlaps(query.fromMillis(), query.toMillis()) ) {
+                    // 범위 밖의 chunk 는 다음 chunk 의 첫 행으로 건너뜀
+                    row = (row | CHUNK_MASK) + 1;
+                    continue;
+                }
+                int offset = row & CHUNK_MASK;
+                long millis = chunk.updateMillis[offset];
+                if ( ordered && millis > query.toMillis() ) {
+                    break;
+                }
+                if ( query.matches(chunk.ids[offset], millis) ) {
+                    result.add(chunk.read(userId, offset));
+                }
+                row++;
+            }
+            return result;
+        }
+
+        /**
+         * id 가 afterId 보다 큰 첫 행 번호 (이진 탐색)
+         */
+        private static int firstRowAfter(Chunk[] current, int rows, long afterId) {
+            int low = 0;
+            int high = rows;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if ( current[mid >>> CHUNK_SHIFT].ids[mid & CHUNK_MASK] <= afterId ) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * updateMillis 가 fromMillis 이상인 첫 행 번호 (시간 순서대로 쌓인 경우에만 사용, 이진 탐색)
+         */
+        private static int firstRowFrom(Chunk[] current, int rows, long fromMillis) {
+            int low = 0;
+            int high = rows;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if ( current[mid >>> CHUNK_SHIFT].updateMillis[mid & CHUNK_MASK] < fromMillis ) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * 생성 시점의 size 까지의 행을 순회 (이후 추가되는 행은 포함하지 않음)
+         */
+        Iterator<PointHistory> iterator() {
+            int rows = size;
+            Chunk[] current = chunks;
+            return new Iterator<>() {
+                private int row;
+
+                @Override
+                public boolean hasNext() {
+                    return row < rows;
+                }
+
+                @Override
+                public PointHistory next() {
+                    if ( row >= rows ) {
+                        throw new NoSuchElementException();
+                    }
+                    PointHistory pointHistory = current[row >>> CHUNK_SHIFT].read(userId, row & CHUNK_MASK);
+                    row++;
+                    return pointHistory;
+                }
+            };
+        }
+
+        List<PointHistory> toList() {
+            int rows = size;
+            Chunk[] current = chunks;
+            List<PointHistory> result = new ArrayList<>(rows);
+            for (int row = 0; row < rows; row++) {
+                result.add(current[row >>> CHUNK_SHIFT].read(userId, row & CHUNK_MASK));
+            }
+            return result;
+        }
+    }
+
+    private static class Chunk {
+        private final long[] ids = new long[UserHistory.CHUNK_SIZE];
+        private final long[] amounts = new long[UserHistory.CHUNK_SIZE];
+        private final long[] updateMillis = new long[UserHistory.CHUNK_SIZE];
+        private final byte[] types = new byte[UserHistory.CHUNK_SIZE];
+        /**
+         * chunk 에 기록된 내역의 최소/최대 updateMillis (행을 기록할 때 함께 갱신되며, 읽는 시점보다 넓을 수는 있어도 좁지 않음)
+         */
+        private long minMillis = Long.MAX_VALUE;
+        private long maxMillis = Long.MIN_VALUE;
+
+        void write(int offset, long id, long amount, TransactionType type, long millis) {
+            ids[offset] = id;
+            amounts[offset] = amount;
+            updateMillis[offset] = millis;
+            types[offset] = (byte) type.ordinal();
+            minMillis = Math.min(minMillis, millis);
+            maxMillis = Math.max(maxMillis, millis);
+        }
+
+        boolean overlaps(long fromMillis, long toMillis) {
+            return minMillis <= toMillis && maxMillis >= fromMillis;
+        }
+
+        PointHistory read(long userId, int offset) {
+            return new PointHistory(ids[offset], userId, amounts[offset], TYPES[types[offset]], updateMillis[offset]);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.hhplus.tdd.infrastructure;
+
+import io.hhplus.tdd.common.LatencyModel;
+import io.hhplus.tdd.common.LatencyModelType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * TABLE 저장소(UserPointTable, PointHistoryTable)의 지연 시간 설정 (application.yml 의 point.latency.*)
+ * 기본값은 기존 throttle 과 같은 균등 분포(조회 최대 200ms, 저장 최대 300ms)입니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.latency")
+public class LatencyProperties {
+
+    /**
+     * false 이면 모든 지연을 끔 (성능 기준선 측정용)
+     */
+    private boolean enabled = true;
+
+    private Profile userPointSelect = Profile.uniform(Duration.ofMillis(200));
+
+    private Profile userPointInsert = Profile.uniform(Duration.ofMillis(300));
+
+    private Profile historyInsert = Profile.uniform(Duration.ofMillis(300));
+
+    public LatencyModel userPointSelectModel() {
+        return enabled ? userPointSelect.toModel() : LatencyModel.OFF;
+    }
+
+    public LatencyModel userPointInsertModel() {
+        return enabled ? userPointInsert.toModel() : LatencyModel.OFF;
+    }
+
+    public LatencyModel historyInsertModel() {
+        return enabled ? historyInsert.toModel() : LatencyModel.OFF;
+    }
+
+    /**
+     * 호출 하나의 지연 시간 모델
+     * - FIXED 는 delay, UNIFORM 은 max, LOG_NORMAL 은 median/p99, TRACE 는 trace(파일 경로)를 사용합니다.
+     */
+    @Getter
+    @Setter
+    public static class Profile {
+
+        private LatencyModelType type = LatencyModelType.OFF;
+
+        private Duration delay = Duration.ZERO;
+
+        private Duration max = Duration.ZERO;
+
+        private Duration median = Duration.ofMillis(5);
+
+        private Duration p99 = Duration.ofMillis(50);
+
+        private String trace;
+
+        static Profile uniform(Duration max) {
+            Profile profile = new Profile();
+            profile.setType(LatencyModelType.UNIFORM);
+            profile.setMax(max);
+            return profile;
+        }
+
+        LatencyModel toModel() {
+            return switch (type) {
+                case OFF -> LatencyModel.OFF;
+                case FIXED -> LatencyModel.fixed(delay);
+                case UNIFORM -> LatencyModel.uniform(max);
+                case LOG_NORMAL -> LatencyModel.logNormal(median, p99);
+                case TRACE -> {
+                    if ( trace == null || trace.isBlank() ) {
+                        throw new IllegalArgumentException("TRACE 지연 모델에는 trace 파일 경로가 필요합니다.");
+                    }
+                    yield LatencyModel.trace(Path.of(trace));
+                }
+            };
+        }
+    }
+}
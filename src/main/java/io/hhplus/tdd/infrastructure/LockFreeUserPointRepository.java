@@ -0,0 +1,198 @@
+package io.hhplus.tdd.infrastructure;
+
+import io.hhplus.tdd.common.UserIdHash;
+import io.hhplus.tdd.domain.point.UserPointRepository;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * long(userId) -> (points, updateMillis) 개방 주소법(open addressing) 해시 테이블 기반 UserPointRepository
+ * - 키와 값을 원시 타입 배열에 저장하므로 박싱이나 갱신마다의 레코드 객체 생성이 없습니다.
+ * - 슬롯마다 version 을 두어(짝수: 안정, 홀수: 기록 중) 두 값을 CAS 로 원자적으로 갱신하고, 읽기는 락 없이 재시도합니다.
+ * - 슬롯은 삭제하지 않으며, 용량은 생성 시 고정됩니다. (userId 0 은 빈 슬롯 표시에 사용하므로 저장할 수 없음)
+ */
+public class LockFreeUserPointRepository implements UserPointRepository {
+
+    private static final long EMPTY = 0L;
+
+    private final AtomicLongArray keys;
+    private final AtomicLongArray versions;
+    private final AtomicLongArray points;
+    private final AtomicLongArray updateMillis;
+    private final AtomicInteger size = new AtomicInteger();
+    private final int mask;
+    private final int maxSize;
+
+    public LockFreeUserPointRepository(int capacity) {
+        if ( capacity <= 0 ) {
+            throw new IllegalArgumentException("저장소 용량은 양수여야 합니다.");
+        }
+        // 탐색 길이가 길어지지 않도록 최대 유저 수의 4/3 배 이상인 2의 거듭제곱 크기로 생성
+        int slots = Integer.highestOneBit(Math.max(capacity + capacity / 3, 2) - 1) << 1;
+        this.keys = new AtomicLongArray(slots);
+        this.versions = new AtomicLongArray(slots);
+        this.points = new AtomicLongArray(slots);
+        this.updateMillis = new AtomicLongArray(slots);
+        this.mask = slots - 1;
+        this.maxSize = capacity;
+    }
+
+    @Override
+    public Optional<UserPoint> selectById(long id) {
+        int slot = findSlot(id, false);
+        if ( slot < 0 ) {
+            return Optional.empty();
+        }
+        while (true) {
+            long version = versions.get(slot);
+            if ( (version & 1) == 1 ) {
+                Thread.onSpinWait();
+                continue;
+            }
+            if ( version == 0 ) {
+                return Optional.empty();
+            }
+            long currentPoints = points.get(slot);
+            long currentMillis = updateMillis.get(slot);
+            if ( versions.get(slot) == version ) {
+                return Optional.of(new UserPoint(id, currentPoints, currentMillis));
+            }
+        }
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        int slot = findSlot(id, true);
+        long millis = System.currentTimeMillis();
+        while (true) {
+            long version = versions.get(slot);
+            if ( (version & 1) == 0 && versions.compareAndSet(slot, version, version + 1) ) {
+                write(slot, version, amount, millis);
+                return new UserPoint(id, amount, millis);
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    @Override
+    public UserPoint addAndGet(long id, long amount) {
+        int slot = findSlot(id, true);
+        while (true) {
+            long version = versions.get(slot);
+            if ( (version & 1) == 1 ) {
+                Thread.onSpinWait();
+                continue;
+            }
+            // CAS 에 성공했다면 그 사이 기록이 없었으므로 읽어 둔 포인트가 최신 값
+            long currentPoints = version == 0 ? 0L : points.get(slot);
+            if ( versions.compareAndSet(slot, version, version + 1) ) {
+                long millis = System.currentTimeMillis();
+                write(slot, version, currentPoints + amount, millis);
+                return new UserPoint(id, currentPoints + amount, millis);
+            }
+        }
+    }
+
+    @Override
+    public Optional<UserPoint> tryDebit(long id, long amount) {
+        int slot = findSlot(id, false);
+        if ( slot < 0 ) {
+            return Optional.empty();
+        }
+        while (true) {
+            long version = versions.get(slot);
+            if ( (version & 1) == 1 ) {
+                Thread.onSpinWait();
+                continue;
+            }
+            long currentPoints = points.get(slot);
+            if ( version == 0 || currentPoints < amount ) {
+                if ( versions.get(slot) != version ) {
+                    continue;
+                }
+                return Optional.empty();
+            }
+            if ( versions.compareAndSet(slot, version, version + 1) ) {
+                long millis = System.currentTimeMillis();
+                write(slot, version, currentPoints - amount, millis);
+                return Optional.of(new UserPoint(id, currentPoints - amount, millis));
+            }
+        }
+    }
+
+    /**
+     * 현재 포인트가 expectedPoints 일 때만 newPoints 로 갱신
+     * 유저 정보가 없거나 그 사이 다른 요청이 포인트를 변경했다면 false 를 반환합니다.
+     */
+    public boolean compareAndSet(long id, long expectedPoints, long newPoints) {
+        int slot = findSlot(id, false);
+        if ( slot < 0 ) {
+            return false;
+        }
+        while (true) {
+            long version = versions.get(slot);
+            if ( (version & 1) == 1 ) {
+                Thread.onSpinWait();
+                continue;
+            }
+            if ( version == 0 || points.get(slot) != expectedPoints ) {
+                if ( versions.get(slot) != version ) {
+                    continue;
+                }
+                return false;
+            }
+            // version 이 그대로라면 points 도 expectedPoints 그대로임
+            if ( versions.compareAndSet(slot, version, version + 1) ) {
+                write(slot, version, newPoints, System.currentTimeMillis());
+                return true;
+            }
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    private void write(int slot, long lockedFrom, long newPoints, long millis) {
+        points.set(slot, newPoints);
+        updateMillis.set(slot, millis);
+        versions.set(slot, lockedFrom + 2);
+    }
+
+    /**
+     * id 가 저장된 슬롯을 찾고, 없으면 claim 여부에 따라 빈 슬롯을 선점하거나 -1 을 반환
+     */
+    private int findSlot(long id, boolean claim) {
+        if ( id == EMPTY ) {
+            throw new IllegalArgumentException("아이디가 유효하지 않습니다.");
+        }
+        int slot = UserIdHash.spread(id) & mask;
+        for (int probe = 0; probe <= mask; probe++) {
+            long key = keys.get(slot);
+            if ( key == id ) {
+                return slot;
+            }
+            if ( key == EMPTY ) {
+                if ( !claim ) {
+                    return -1;
+                }
+                if ( size.incrementAndGet() > maxSize ) {
+                    size.decrementAndGet();
+                    throw new IllegalStateException("저장 가능한 유저 수를 초과했습니다.");
+                }
+                if ( keys.compareAndSet(slot, EMPTY, id) ) {
+                    return slot;
+                }
+                size.decrementAndGet();
+                if ( keys.get(slot) == id ) {
+                    return slot;
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+        throw new IllegalStateException("저장 가능한 유저 수를 초과했습니다.");
+    }
+}
@@ -0,0 +1,411 @@
+package io.hhplus.tdd.infrastructure;
+
+import io.hhplus.tdd.domain.point.PointHistoryRepository;
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메모리 매핑 파일에 컬럼 단위로 내역을 저장하는 PointHistory 저장소
+ * - 내역은 전역 행 번호 순으로 segment 파일(segmentRows 행)에 이어 쓰며, 각 segment 는 컬럼(userId, amount, updateMillis, next, type)을 연속 배치합니다.
+ * - 행 번호가 곧 id(행 번호 + 1)이므로 id 컬럼은 따로 두지 않습니다.
+ * - 유저별 내역은 next 컬럼으로 연결된 행 목록이며, 힙에는 유저별 처음/마지막 행과 64행마다의 행 번호와 최소/최대 시각(sparse index)만 둡니다.
+ * - 페이지 조회는 sparse index 로 cursor 와 시간 범위의 시작 위치를 찾고, 범위 밖의 64행 묶음은 건너뜁니다.
+ *   (유저의 내역이 시간 순서대로 쌓인 동안은 범위를 지나면 멈춤)
+ * - PointHistory 는 조회 결과로 반환할 때만 생성하므로, 내역이 늘어도 힙 사용량과 GC 부담이 거의 늘지 않습니다.
+ * - 추가는 유저 단위로 직렬화되며, 조회는 volatile size 까지의 행을 락 없이 읽습니다.
+ * - 파일은 실행 중의 저장 공간으로만 사용합니다. (생성 시 directory 를 비우며, 재시작 후 복구는 WAL 이 담당)
+ */
+public class MappedPointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedPointHistoryRepository.class);
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    /**
+     * userId, amount, updateMillis, next(long) + type(byte)
+     */
+    private static final int ROW_BYTES = Long.BYTES * 4 + 1;
+
+    private static final long NO_ROW = -1L;
+
+    private final Path directory;
+    private final int segmentRows;
+    private final AtomicLong rowCursor = new AtomicLong();
+    private final Map<Long, UserChain> index = new ConcurrentHashMap<>();
+    private final ReentrantLock segmentLock = new ReentrantLock();
+    private volatile Segment[] segments = new Segment[0];
+
+    public MappedPointHistoryRepository(Path directory, int segmentRows) {
+        if ( segmentRows <= 0 || segmentRows > Integer.MAX_VALUE / ROW_BYTES ) {
+            throw new IllegalArgumentException("segment 행 수는 1 이상 " + Integer.MAX_VALUE / ROW_BYTES + " 이하여야 합니다.");
+        }
+        this.directory = directory;
+        this.segmentRows = segmentRows;
+        try {
+            Files.createDirectories(directory);
+            for (Path segment : segmentFiles(directory)) {
+                Files.delete(segment);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long uptimeMillis) {
+        return index.computeIfAbsent(userId, key -> new UserChain())
+                .append(this, userId, amount, type, uptimeMillis);
+    }
+
+    @Override
+    public Optional<List<PointHistory>> selectAllByUserId(long userId) {
+        UserChain chain = index.get(userId);
+        if ( chain == null || chain.size == 0 ) {
+            return Optional.empty();
+        }
+        List<PointHistory> result = new ArrayList<>(chain.size);
+        iterateByUserId(userId).forEachRemaining(result::add);
+        return Optional.of(result);
+    }
+
+    @Override
+    public List<PointHistory> selectPageByUserId(long userId, PointHistoryQuery query) {
+        UserChain chain = index.get(userId);
+        if ( chain == null ) {
+            return List.of();
+        }
+        int rows = chain.size;
+        boolean ordered = chain.timeOrdered;
+        List<PointHistory> result = new ArrayList<>(Math.min(query.limit(), rows));
+        int position = chain.firstPositionAfter(rows, query.afterId() - 1);
+        if ( ordered ) {
+            position = Math.max(position, chain.firstBlockFrom(rows, query.fromMillis()) << UserChain.SPARSE_SHIFT);
+        }
+        long row = chain.rowAt(this, position);
+        while (position < rows && result.size() < query.limit()) {
+            if ( (position & UserChain.SPARSE_MASK) == 0 && !chain.overlaps(position >>> UserChain.SPARSE_SHIFT, query.fromMillis(), query.toMillis()) ) {
+                // 범위 밖의 묶음은 다음 묶음의 첫 행으로 건너뜀
+                position += UserChain.SPARSE_MASK + 1;
+                row = chain.rowAt(this, position);
+                continue;
+            }
+            Segment segment = segmentOf(row);
+            int offset = offsetOf(row);
+            long millis = segment.updateMillis(offset);
+            if ( ordered && millis > query.toMillis() ) {
+                break;
+            }
+            if ( query.matches(row + 1, millis) ) {
+                result.add(segment.read(row, offset));
+            }
+            row = segment.next(offset);
+            position++;
+        }
+        return result;
+    }
+
+    /**
+     * 생성 시점의 size 까지의 행을 next 를 따라 순회 (이후 추가되는 행은 포함하지 않음)
+     */
+    @Override
+    public Iterator<PointHistory> iterateByUserId(long userId) {
+        UserChain chain = index.get(userId);
+        if ( chain == null ) {
+            return Collections.emptyIterator();
+        }
+        int rows = chain.size;
+        long head = chain.head;
+        return new Iterator<>() {
+            private int position;
+            private long row = head;
+
+            @Override
+            public boolean hasNext() {
+                return position < rows;
+            }
+
+            @Override
+            public PointHistory next() {
+                if ( position >= rows ) {
+                    throw new NoSuchElementException();
+                }
+                Segment segment = segmentOf(row);
+                int offset = offsetOf(row);
+                PointHistory pointHistory = segment.read(row, offset);
+                row = segment.next(offset);
+                position++;
+                return pointHistory;
+            }
+        };
+    }
+
+    /**
+     * segment 파일을 삭제 (매핑은 GC 시 해제)
+     */
+    @Override
+    public void close() {
+        segmentLock.lock();
+        try {
+            for (Path segment : segmentFiles(directory)) {
+                Files.deleteIfExists(segment);
+            }
+        } catch (IOException e) {
+            logger.warn(String.format("내역 파일 정리에 실패했습니다. (%s)", directory), e);
+        } finally {
+            segmentLock.unlock();
+        }
+    }
+
+    private long claimRow() {
+        long row = rowCursor.getAndIncrement();
+        int segmentIndex = (int) (row / segmentRows);
+        if ( segmentIndex >= segments.length ) {
+            growSegments(segmentIndex);
+        }
+        return row;
+    }
+
+    private void growSegments(int segmentIndex) {
+        segmentLock.lock();
+        try {
+            Segment[] current = segments;
+            if ( segmentIndex < current.length ) {
+                return;
+            }
+            Segment[] grown = new Segment[segmentIndex + 1];
+            System.arraycopy(current, 0, grown, 0, current.length);
+            for (int i = current.length; i < grown.length; i++) {
+                grown[i] = openSegment(i);
+            }
+            segments = grown;
+        } finally {
+            segmentLock.unlock();
+        }
+    }
+
+    /**
+     * 매핑은 채널을 닫은 뒤에도 유효하므로 채널은 매핑 직후 닫습니다.
+     */
+    private Segment openSegment(int segmentIndex) {
+        Path path = directory.resolve(String.format("%08d.history", segmentIndex));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new Segment(channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) segmentRows * ROW_BYTES), segmentRows);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Segment segmentOf(long row) {
+        return segments[(int) (row / segmentRows)];
+    }
+
+    private int offsetOf(long row) {
+        return (int) (row % segmentRows);
+    }
+
+    private static List<Path> segmentFiles(Path directory) throws IOException {
+        if ( !Files.isDirectory(directory) ) {
+            return List.of();
+        }
+        try (var files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".history")).toList();
+        }
+    }
+
+    /**
+     * 한 유저의 행 목록
+     * 행의 컬럼과 이전 행의 next, sparse index 를 모두 기록한 뒤 size 를 갱신(volatile)하므로,
+     * 읽는 쪽은 size 까지의 행을 락 없이 따라갈 수 있습니다.
+     * 묶음별 최소/최대 시각은 읽는 시점보다 넓을 수는 있어도 좁지 않습니다.
+     */
+    private static class UserChain {
+        private static final int SPARSE_SHIFT = 6;
+        private static final int SPARSE_MASK = (1 << SPARSE_SHIFT) - 1;
+
+        private final ReentrantLock appendLock = new ReentrantLock();
+        private volatile long head = NO_ROW;
+        private long tail = NO_ROW;
+        private volatile long[] sparse = new long[4];
+        private volatile long[] minMillis = new long[4];
+        private volatile long[] maxMillis = new long[4];
+        private volatile int size;
+        /**
+         * 모든 내역이 updateMillis 오름차순으로 추가되었는지 여부 (size 보다 먼저 기록)
+         */
+        private volatile boolean timeOrdered = true;
+        private long lastMillis = Long.MIN_VALUE;
+
+        PointHistory append(MappedPointHistoryRepository repository, long userId, long amount, TransactionType type, long updateMillis) {
+            appendLock.lock();
+            try {
+                long row = repository.claimRow();
+                repository.segmentOf(row).write(repository.offsetOf(row), userId, amount, type, updateMillis);
+                if ( tail == NO_ROW ) {
+                    head = row;
+                } else {
+                    repository.segmentOf(tail).link(repository.offsetOf(tail), row);
+                }
+                tail = row;
+
+                int position = size;
+                int slot = position >>> SPARSE_SHIFT;
+                if ( (position & SPARSE_MASK) == 0 ) {
+                    long[] current = sparse;
+                    if ( slot == current.length ) {
+                        int length = current.length << 1;
+                        sparse = current = Arrays.copyOf(current, length);
+                        minMillis = Arrays.copyOf(minMillis, length);
+                        maxMillis = Arrays.copyOf(maxMillis, length);
+                    }
+                    current[slot] = row;
+                    minMillis[slot] = updateMillis;
+                    maxMillis[slot] = updateMillis;
+                } else {
+                    minMillis[slot] = Math.min(minMillis[slot], updateMillis);
+                    maxMillis[slot] = Math.max(maxMillis[slot], updateMillis);
+                }
+                if ( updateMillis < lastMillis ) {
+                    timeOrdered = false;
+                }
+                lastMillis = Math.max(lastMillis, updateMillis);
+                size = position + 1;
+                return new PointHistory(row + 1, userId, amount, type, updateMillis);
+            } finally {
+                appendLock.unlock();
+            }
+        }
+
+        /**
+         * 행 번호가 afterRow 보다 큰 첫 위치
+         * sparse index 를 이진 탐색한 뒤 최대 63행을 따라갑니다.
+         */
+        int firstPositionAfter(int rows, long afterRow) {
+            if ( rows == 0 ) {
+                return 0;
+            }
+            long[] current = sparse;
+            int low = 0;
+            int high = ((rows - 1) >>> SPARSE_SHIFT) + 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if ( current[mid] <= afterRow ) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            if ( low == 0 ) {
+                return 0;
+            }
+            return (low - 1) << SPARSE_SHIFT;
+        }
+
+        /**
+         * 최대 시각이 fromMillis 이상인 첫 묶음 번호 (시간 순서대로 쌓인 경우에만 사용, 이진 탐색)
+         */
+        int firstBlockFrom(int rows, long fromMillis) {
+            long[] current = maxMillis;
+            int low = 0;
+            int high = rows == 0 ? 0 : ((rows - 1) >>> SPARSE_SHIFT) + 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if ( current[mid] < fromMillis ) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * block 번째 묶음에 [fromMillis, toMillis] 범위의 내역이 있을 수 있는지 여부
+         */
+        boolean overlaps(int block, long fromMillis, long toMillis) {
+            return minMillis[block] <= toMillis && maxMillis[block] >= fromMillis;
+        }
+
+        /**
+         * position 번째 행 번호 (가장 가까운 sparse index 에서부터 next 를 따라감)
+         */
+        long rowAt(MappedPointHistoryRepository repository, int position) {
+            if ( position >= size ) {
+                return NO_ROW;
+            }
+            long row = sparse[position >>> SPARSE_SHIFT];
+            for (int i = position & ~SPARSE_MASK; i < position; i++) {
+                row = repository.segmentOf(row).next(repository.offsetOf(row));
+            }
+            return row;
+        }
+    }
+
+    /**
+     * 하나의 매핑 파일 안의 컬럼 배치
+     * [userId * rows][amount * rows][updateMillis * rows][next * rows][type * rows]
+     */
+    private static class Segment {
+        private final MappedByteBuffer buffer;
+        private final int amountBase;
+        private final int updateMillisBase;
+        private final int nextBase;
+        private final int typeBase;
+
+        Segment(MappedByteBuffer buffer, int rows) {
+            this.buffer = buffer;
+            this.amountBase = rows * Long.BYTES;
+            this.updateMillisBase = amountBase * 2;
+            this.nextBase = amountBase * 3;
+            this.typeBase = amountBase * 4;
+        }
+
+        void write(int offset, long userId, long amount, TransactionType type, long updateMillis) {
+            int position = offset * Long.BYTES;
+            buffer.putLong(position, userId);
+            buffer.putLong(amountBase + position, amount);
+            buffer.putLong(updateMillisBase + position, updateMillis);
+            buffer.putLong(nextBase + position, NO_ROW);
+            buffer.put(typeBase + offset, (byte) type.ordinal());
+        }
+
+        void link(int offset, long nextRow) {
+            buffer.putLong(nextBase + offset * Long.BYTES, nextRow);
+        }
+
+        long next(int offset) {
+            return buffer.getLong(nextBase + offset * Long.BYTES);
+        }
+
+        long updateMillis(int offset) {
+            return buffer.getLong(updateMillisBase + offset * Long.BYTES);
+        }
+
+        PointHistory read(long row, int offset) {
+            int position = offset * Long.BYTES;
+            return new PointHistory(row + 1, buffer.getLong(position), buffer.getLong(amountBase + position),
+                    TYPES[buffer.get(typeBase + offset)], buffer.getLong(updateMillisBase + position));
+        }
+    }
+}
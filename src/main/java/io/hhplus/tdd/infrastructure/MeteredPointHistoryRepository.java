@@ -0,0 +1,80 @@
+package io.hhplus.tdd.infrastructure;
+
+import io.hhplus.tdd.domain.point.PointHistoryRepository;
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PointHistoryRepository 호출별 소요 시간을 point.repository.history 타이머(operation 태그)로 기록하는 데코레이터
+ * - 내역은 삭제되지 않으므로 insert 횟수를 저장된 내역 수(size)로 집계합니다.
+ * - 원본 저장소가 종료가 필요한 경우(AsyncPointHistoryRepository, MappedPointHistoryRepository) close()를 전달합니다.
+ * - iterateByUserId 는 순회 시작(iterator 생성)까지의 시간만 기록합니다.
+ */
+public class MeteredPointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+
+    private final PointHistoryRepository delegate;
+    private final Timer insertTimer;
+    private final Timer selectAllTimer;
+    private final Timer selectPageTimer;
+    private final Timer iterateTimer;
+    private final LongAdder size = new LongAdder();
+
+    public MeteredPointHistoryRepository(PointHistoryRepository delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.insertTimer = timer(meterRegistry, "insert");
+        this.selectAllTimer = timer(meterRegistry, "selectAllByUserId");
+        this.selectPageTimer = timer(meterRegistry, "selectPageByUserId");
+        this.iterateTimer = timer(meterRegistry, "iterateByUserId");
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("point.repository.history")
+                .description("PointHistoryRepository 호출 시간")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이 저장소에 기록된 내역 수
+     */
+    public long size() {
+        return size.sum();
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long uptimeMillis) {
+        PointHistory pointHistory = insertTimer.record(() -> delegate.insert(userId, amount, type, uptimeMillis));
+        size.increment();
+        return pointHistory;
+    }
+
+    @Override
+    public Optional<List<PointHistory>> selectAllByUserId(long userId) {
+        return selectAllTimer.record(() -> delegate.selectAllByUserId(userId));
+    }
+
+    @Override
+    public List<PointHistory> selectPageByUserId(long userId, PointHistoryQuery query) {
+        return selectPageTimer.record(() -> delegate.selectPageByUserId(userId, query));
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateByUserId(long userId) {
+        return iterateTimer.record(() -> delegate.iterateByUserId(userId));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if ( delegate instanceof AutoCloseable closeable ) {
+            closeable.close();
+        }
+    }
+}
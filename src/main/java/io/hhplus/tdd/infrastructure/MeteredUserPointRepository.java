@@ -0,0 +1,56 @@
+package io.hhplus.tdd.infrastructure;
+
+import io.hhplus.tdd.domain.point.UserPointRepository;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Optional;
+
+/**
+ * UserPointRepository 호출별 소요 시간을 point.repository.user-point 타이머(operation 태그)로 기록하는 데코레이터
+ * 캐시 등 다른 데코레이터의 바깥에 두어 호출하는 쪽에서 본 시간을 기록합니다.
+ */
+public class MeteredUserPointRepository implements UserPointRepository {
+
+    private final UserPointRepository delegate;
+    private final Timer selectTimer;
+    private final Timer insertOrUpdateTimer;
+    private final Timer addAndGetTimer;
+    private final Timer tryDebitTimer;
+
+    public MeteredUserPointRepository(UserPointRepository delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.selectTimer = timer(meterRegistry, "selectById");
+        this.insertOrUpdateTimer = timer(meterRegistry, "insertOrUpdate");
+        this.addAndGetTimer = timer(meterRegistry, "addAndGet");
+        this.tryDebitTimer = timer(meterRegistry, "tryDebit");
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("point.repository.user-point")
+                .description("UserPointRepository 호출 시간")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<UserPoint> selectById(long id) {
+        return selectTimer.record(() -> delegate.selectById(id));
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        return insertOrUpdateTimer.record(() -> delegate.insertOrUpdate(id, amount));
+    }
+
+    @Override
+    public UserPoint addAndGet(long id, long amount) {
+        return addAndGetTimer.record(() -> delegate.addAndGet(id, amount));
+    }
+
+    @Override
+    public Optional<UserPoint> tryDebit(long id, long amount) {
+        return tryDebitTimer.record(() -> delegate.tryDebit(id, amount));
+    }
+}
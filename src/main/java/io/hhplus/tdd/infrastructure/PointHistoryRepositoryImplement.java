@@ -2,20 +2,26 @@ package io.hhplus.tdd.infrastructure;
 
 import io.hhplus.tdd.common.PointHistoryTable;
 import io.hhplus.tdd.domain.point.PointHistoryRepository;
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
 import io.hhplus.tdd.domain.point.model.PointHistory;
 import io.hhplus.tdd.domain.point.model.TransactionType;
-import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.stereotype.Repository;
 
 import java.util.*;
 
-@Repository
-@RequiredArgsConstructor
-@Qualifier("pointHistoryRepositoryImplement")
+/**
+ * PointHistoryTable 을 사용한 PointHistoryRepository 기준 구현체
+ */
 public class PointHistoryRepositoryImplement implements PointHistoryRepository {
 
-    private final PointHistoryTable pointHistoryTable = new PointHistoryTable();
+    private final PointHistoryTable pointHistoryTable;
+
+    public PointHistoryRepositoryImplement() {
+        this(new PointHistoryTable());
+    }
+
+    public PointHistoryRepositoryImplement(PointHistoryTable pointHistoryTable) {
+        this.pointHistoryTable = pointHistoryTable;
+    }
 
     @Override
     public PointHistory insert(long userId, long amount, TransactionType type, long uptimeMillis) {
@@ -26,4 +32,17 @@ public class PointHistoryRepositoryImplement implements PointHistoryRepository {
     public Optional<List<PointHistory>> selectAllByUserId(long userId) {
         return pointHistoryTable.selectAllByUserId(userId);
     }
+
+    @Override
+    public List<PointHistory> selectPageByUserId(long userId, PointHistoryQuery query) {
+        return pointHistoryTable.selectAllByUserId(userId).orElse(List.of()).stream()
+                .filter(pointHistory -> query.matches(pointHistory.id(), pointHistory.updateMillis()))
+                .limit(query.limit())
+                .toList();
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateByUserId(long userId) {
+        return pointHistoryTable.iterateByUserId(userId);
+    }
 }
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.infrastructure;
+
+/**
+ * PointHistoryRepository 구현 방식
+ * - TABLE : PointHistoryTable 사용 (기준 구현)
+ * - INDEXED : 유저별 인덱스를 가진 IndexedPointHistoryRepository 사용
+ * - MAPPED : 메모리 매핑 파일에 컬럼 단위로 저장하는 MappedPointHistoryRepository 사용
+ */
+public enum PointHistoryStoreType {
+    TABLE, INDEXED, MAPPED
+}
@@ -0,0 +1,50 @@
+package io.hhplus.tdd.infrastructure;
+
+import io.hhplus.tdd.common.LockManager;
+import io.hhplus.tdd.domain.point.PointHistoryRepository;
+import io.hhplus.tdd.domain.point.PointShardRouter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PointMetricsConfig {
+
+    /**
+     * shard 별 상태 gauge (shard 태그)
+     * - point.lock.held: 현재 보유 중인 락 수
+     * - point.lock.table.size: LockTable 이 보관 중인 락 수
+     * - point.history.size: 저장된 내역 수
+     * 조회 시점에만 값을 읽으므로 충전/사용 처리 경로에는 비용이 없습니다.
+     */
+    @Bean
+    public MeterBinder pointGauges(PointShardRouter pointShardRouter,
+                                   @Qualifier("pointHistoryRepository") PointHistoryRepository pointHistoryRepository) {
+        return meterRegistry -> {
+            for (int i = 0; i < pointShardRouter.shardCount(); i++) {
+                String shard = String.valueOf(i);
+                LockManager lockManager = pointShardRouter.shard(i).pointService().getLockManager();
+                Gauge.builder("point.lock.held", lockManager, manager -> manager.getMetrics().held())
+                        .description("보유 중인 락 수")
+                        .tag("shard", shard)
+                        .register(meterRegistry);
+                Gauge.builder("point.lock.table.size", lockManager, LockManager::getLockCount)
+                        .description("LockTable 이 보관 중인 락 수")
+                        .tag("shard", shard)
+                        .register(meterRegistry);
+
+                PointHistoryRepository shardHistoryRepository = pointHistoryRepository instanceof ShardedPointHistoryRepository sharded
+                        ? sharded.shard(i)
+                        : pointHistoryRepository;
+                if ( shardHistoryRepository instanceof MeteredPointHistoryRepository metered ) {
+                    Gauge.builder("point.history.size", metered, MeteredPointHistoryRepository::size)
+                            .description("저장된 내역 수")
+                            .tag("shard", shard)
+                            .register(meterRegistry);
+                }
+            }
+        };
+    }
+}
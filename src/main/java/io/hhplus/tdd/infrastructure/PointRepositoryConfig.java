@@ -0,0 +1,47 @@
+package io.hhplus.tdd.infrastructure;
+
+import io.hhplus.tdd.common.PointExecutionProperties;
+import io.hhplus.tdd.domain.point.PointHistoryRepository;
+import io.hhplus.tdd.domain.point.UserPointRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+@Configuration
+public class PointRepositoryConfig {
+
+    /**
+     * point.execution.shards 가 2 이상이면 shard 마다 독립된 저장소를 만들고 userId 해시로 전달하는 저장소를 반환합니다.
+     */
+    @Bean
+    public UserPointRepository userPointRepository(PointRepositoryFactory pointRepositoryFactory, PointExecutionProperties executionProperties) {
+        if ( executionProperties.getShards() > 1 ) {
+            return new ShardedUserPointRepository(createShards(executionProperties.getShards(), pointRepositoryFactory::createUserPointRepository));
+        }
+        return pointRepositoryFactory.createUserPointRepository();
+    }
+
+    /**
+     * AsyncPointHistoryRepository 는 종료 시 close()(destroyMethod 추론)로 남은 내역을 기록합니다.
+     * MappedPointHistoryRepository 는 종료 시 close()로 segment 파일을 삭제합니다.
+     * (바깥의 MeteredPointHistoryRepository 가 close()를 전달)
+     */
+    @Bean
+    public PointHistoryRepository pointHistoryRepository(PointRepositoryFactory pointRepositoryFactory, PointExecutionProperties executionProperties) {
+        if ( executionProperties.getShards() > 1 ) {
+            return new ShardedPointHistoryRepository(createShards(executionProperties.getShards(), pointRepositoryFactory::createPointHistoryRepository));
+        }
+        return pointRepositoryFactory.createPointHistoryRepository();
+    }
+
+    private static <T> List<T> createShards(int shards, Supplier<T> factory) {
+        List<T> repositories = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) {
+            repositories.add(factory.get());
+        }
+        return repositories;
+    }
+}
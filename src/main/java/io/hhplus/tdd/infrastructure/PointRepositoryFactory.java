@@ -0,0 +1,66 @@
+package io.hhplus.tdd.infrastructure;
+
+import io.hhplus.tdd.common.PointHistoryTable;
+import io.hhplus.tdd.common.UserPointTable;
+import io.hhplus.tdd.domain.point.PointHistoryRepository;
+import io.hhplus.tdd.domain.point.UserPointRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * point.storage 설정에 맞는 저장소 구현체를 생성하는 컴포넌트
+ * 호출할 때마다 독립된 저장소를 새로 생성합니다. (MAPPED 내역 저장소는 생성 순번별 하위 디렉토리 사용)
+ * 생성한 저장소는 가장 바깥에서 호출 시간을 기록하는 Metered 데코레이터로 감쌉니다.
+ */
+@Component
+public class PointRepositoryFactory {
+
+    private final PointStorageProperties storageProperties;
+    private final LatencyProperties latencyProperties;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger historySequence = new AtomicInteger();
+
+    public PointRepositoryFactory(PointStorageProperties storageProperties) {
+        this(storageProperties, new LatencyProperties(), Metrics.globalRegistry);
+    }
+
+    @Autowired
+    public PointRepositoryFactory(PointStorageProperties storageProperties, LatencyProperties latencyProperties,
+                                  MeterRegistry meterRegistry) {
+        this.storageProperties = storageProperties;
+        this.latencyProperties = latencyProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public UserPointRepository createUserPointRepository() {
+        UserPointRepository userPointRepository = switch (storageProperties.getUserPoint()) {
+            case TABLE -> new UserPointRepositoryImplement(
+                    new UserPointTable(latencyProperties.userPointSelectModel(), latencyProperties.userPointInsertModel()));
+            case LOCK_FREE -> new LockFreeUserPointRepository(storageProperties.getUserPointCapacity());
+        };
+        if ( storageProperties.isCacheEnabled() ) {
+            userPointRepository = new CachingUserPointRepository(userPointRepository, storageProperties.getCacheMaxSize(), storageProperties.getCacheEviction());
+        }
+        return new MeteredUserPointRepository(userPointRepository, meterRegistry);
+    }
+
+    public PointHistoryRepository createPointHistoryRepository() {
+        PointHistoryRepository pointHistoryRepository = switch (storageProperties.getHistory()) {
+            case TABLE -> new PointHistoryRepositoryImplement(new PointHistoryTable(latencyProperties.historyInsertModel()));
+            case INDEXED -> new IndexedPointHistoryRepository();
+            case MAPPED -> new MappedPointHistoryRepository(
+                    Path.of(storageProperties.getHistoryDirectory(), String.valueOf(historySequence.getAndIncrement())),
+                    storageProperties.getHistorySegmentRows());
+        };
+        if ( storageProperties.isHistoryAsync() ) {
+            pointHistoryRepository = new AsyncPointHistoryRepository(pointHistoryRepository,
+                    storageProperties.getHistoryQueueCapacity(), storageProperties.getHistoryBatchSize());
+        }
+        return new MeteredPointHistoryRepository(pointHistoryRepository, meterRegistry);
+    }
+}
@@ -0,0 +1,59 @@
+package io.hhplus.tdd.infrastructure;
+
+import io.hhplus.tdd.common.HotUserDetector;
+import io.hhplus.tdd.common.HotUserProperties;
+import io.hhplus.tdd.common.LockManager;
+import io.hhplus.tdd.common.LockProperties;
+import io.hhplus.tdd.common.PointCommandDispatcher;
+import io.hhplus.tdd.common.PointExecutionProperties;
+import io.hhplus.tdd.common.PointManager;
+import io.hhplus.tdd.common.StripedChargeBalances;
+import io.hhplus.tdd.domain.point.PointHistoryRepository;
+import io.hhplus.tdd.domain.point.PointService;
+import io.hhplus.tdd.domain.point.PointShard;
+import io.hhplus.tdd.domain.point.PointShardRouter;
+import io.hhplus.tdd.domain.point.UserPointRepository;
+import io.hhplus.tdd.persistence.PointJournal;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+public class PointShardConfig {
+
+    /**
+     * point.execution.shards 가 1 이면 기본 PointService 빈 하나로, 2 이상이면 shard 마다 독립된 PointService 로 라우터를 구성합니다.
+     * shard 의 저장소는 ShardedUserPointRepository/ShardedPointHistoryRepository 가 같은 해시로 나눠 둔 것을 사용하므로,
+     * WAL 복구 등 전체 저장소를 통한 접근도 같은 shard 의 저장소에 반영됩니다.
+     * hot user 감지(HotUserDetector)와 충전 sub-counter(StripedChargeBalances)는 모든 shard 가 함께 사용합니다.
+     * PointShardRouter 는 종료 시 close()(destroyMethod 추론)로 shard 의 스레드를 종료합니다.
+     */
+    @Bean
+    public PointShardRouter pointShardRouter(PointService pointService, PointCommandDispatcher pointCommandDispatcher,
+                                             @Qualifier("userPointRepository") UserPointRepository userPointRepository,
+                                             @Qualifier("pointHistoryRepository") PointHistoryRepository pointHistoryRepository,
+                                             PointJournal pointJournal, LockProperties lockProperties,
+                                             PointExecutionProperties executionProperties, MeterRegistry meterRegistry,
+                                             HotUserDetector hotUserDetector, HotUserProperties hotUserProperties,
+                                             StripedChargeBalances stripedChargeBalances) {
+        if ( !(userPointRepository instanceof ShardedUserPointRepository userPointShards)
+                || !(pointHistoryRepository instanceof ShardedPointHistoryRepository pointHistoryShards) ) {
+            return new PointShardRouter(List.of(new PointShard(pointService, pointCommandDispatcher)), executionProperties.getMaxBatchSize());
+        }
+
+        PointExecutionProperties shardProperties = executionProperties.perShard();
+        List<PointShard> shards = new ArrayList<>(userPointShards.shardCount());
+        for (int i = 0; i < userPointShards.shardCount(); i++) {
+            PointManager pointManager = new PointManager(userPointShards.shard(i), pointHistoryShards.shard(i), pointJournal, meterRegistry, stripedChargeBalances);
+            PointCommandDispatcher shardDispatcher = new PointCommandDispatcher(pointManager, shardProperties);
+            PointService shardService = new PointService(new LockManager(lockProperties, meterRegistry), pointManager,
+                    shardDispatcher, shardProperties, hotUserDetector, hotUserProperties);
+            shards.add(new PointShard(shardService, shardDispatcher));
+        }
+        return new PointShardRouter(shards, executionProperties.getMaxBatchSize());
+    }
+}
@@ -0,0 +1,49 @@
+package io.hhplus.tdd.infrastructure;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 저장소 구현 선택 설정 (application.yml 의 point.storage.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.storage")
+public class PointStorageProperties {
+
+    private UserPointStoreType userPoint = UserPointStoreType.TABLE;
+
+    /**
+     * userPoint 가 LOCK_FREE 일 때 저장 가능한 최대 유저 수
+     */
+    private int userPointCapacity = 1 << 20;
+
+    /**
+     * UserPoint 조회 캐시(CachingUserPointRepository) 사용 여부와 최대 항목 수, 교체 정책
+     */
+    private boolean cacheEnabled = false;
+
+    private int cacheMaxSize = 100_000;
+
+    private CacheEvictionPolicy cacheEviction = CacheEvictionPolicy.LRU;
+
+    private PointHistoryStoreType history = PointHistoryStoreType.TABLE;
+
+    /**
+     * history 가 MAPPED 일 때 segment 파일을 둘 디렉토리와 segment 하나의 행 수
+     */
+    private String historyDirectory = "data/history";
+
+    private int historySegmentRows = 1 << 20;
+
+    /**
+     * 내역을 큐에 적재하고 별도 writer 스레드가 기록 (AsyncPointHistoryRepository)
+     * historyQueueCapacity 건이 쌓이면 충전/사용 요청이 대기하며, writer 는 최대 historyBatchSize 건씩 기록합니다.
+     */
+    private boolean historyAsync = false;
+
+    private int historyQueueCapacity = 10_000;
+
+    private int historyBatchSize = 256;
+}
@@ -0,0 +1,42 @@
+package io.hhplus.tdd.infrastructure;
+
+import io.hhplus.tdd.domain.point.PointHistoryRepository;
+import io.hhplus.tdd.domain.point.ReactivePointHistoryRepository;
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * PointHistoryRepository 를 ReactivePointHistoryRepository 로 사용하기 위한 어댑터
+ * 블로킹 저장소의 호출은 scheduler 에서 실행하며, 전체 조회는 목록을 만들지 않고 iterateByUserId 로 한 건씩 내보냅니다.
+ */
+public class ReactivePointHistoryRepositoryAdapter implements ReactivePointHistoryRepository {
+
+    private final PointHistoryRepository delegate;
+    private final Scheduler scheduler;
+
+    public ReactivePointHistoryRepositoryAdapter(PointHistoryRepository delegate, Scheduler scheduler) {
+        this.delegate = delegate;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public Mono<PointHistory> insert(long userId, long amount, TransactionType type, long uptimeMillis) {
+        return Mono.fromCallable(() -> delegate.insert(userId, amount, type, uptimeMillis)).subscribeOn(scheduler);
+    }
+
+    @Override
+    public Flux<PointHistory> selectAllByUserId(long userId) {
+        return Flux.fromIterable(() -> delegate.iterateByUserId(userId)).subscribeOn(scheduler);
+    }
+
+    @Override
+    public Flux<PointHistory> selectPageByUserId(long userId, PointHistoryQuery query) {
+        return Mono.fromCallable(() -> delegate.selectPageByUserId(userId, query))
+                .flatMapIterable(histories -> histories)
+                .subscribeOn(scheduler);
+    }
+}
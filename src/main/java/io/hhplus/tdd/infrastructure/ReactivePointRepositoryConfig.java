@@ -0,0 +1,57 @@
+package io.hhplus.tdd.infrastructure;
+
+import io.hhplus.tdd.common.PointExecutionProperties;
+import io.hhplus.tdd.common.PointThreads;
+import io.hhplus.tdd.domain.point.PointHistoryRepository;
+import io.hhplus.tdd.domain.point.ReactivePointHistoryRepository;
+import io.hhplus.tdd.domain.point.ReactiveUserPointRepository;
+import io.hhplus.tdd.domain.point.UserPointRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * WebFlux(spring.main.web-application-type=reactive)로 실행할 때 사용하는 reactive 저장소
+ * 동기 저장소 빈을 그대로 감싸므로 두 방식이 같은 데이터를 사용합니다.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePointRepositoryConfig {
+
+    /**
+     * 블로킹 저장소 호출을 실행할 scheduler
+     * 가상 스레드 사용 시 호출마다 가상 스레드를, 아니면 boundedElastic 을 사용합니다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler pointBlockingScheduler(PointExecutionProperties executionProperties) {
+        if ( executionProperties.isVirtualThreads() ) {
+            return Schedulers.fromExecutorService(PointThreads.newExecutor("point-reactive-", Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE, true));
+        }
+        return Schedulers.newBoundedElastic(Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "point-reactive");
+    }
+
+    @Bean
+    public ReactiveUserPointRepository reactiveUserPointRepository(@Qualifier("userPointRepository") UserPointRepository userPointRepository,
+                                                                   PointStorageProperties storageProperties,
+                                                                   Scheduler pointBlockingScheduler) {
+        // LOCK_FREE 저장소는 대기 없이 처리되므로 호출 스레드에서 바로 실행
+        Scheduler scheduler = storageProperties.getUserPoint() == UserPointStoreType.LOCK_FREE
+                ? Schedulers.immediate()
+                : pointBlockingScheduler;
+        return new ReactiveUserPointRepositoryAdapter(userPointRepository, scheduler);
+    }
+
+    @Bean
+    public ReactivePointHistoryRepository reactivePointHistoryRepository(@Qualifier("pointHistoryRepository") PointHistoryRepository pointHistoryRepository,
+                                                                         PointStorageProperties storageProperties,
+                                                                         Scheduler pointBlockingScheduler) {
+        // INDEXED 저장소는 대기 없이 처리되므로 호출 스레드에서 바로 실행 (history-async 는 큐가 가득 차면 대기하므로 제외)
+        Scheduler scheduler = storageProperties.getHistory() == PointHistoryStoreType.INDEXED && !storageProperties.isHistoryAsync()
+                ? Schedulers.immediate()
+                : pointBlockingScheduler;
+        return new ReactivePointHistoryRepositoryAdapter(pointHistoryRepository, scheduler);
+    }
+}
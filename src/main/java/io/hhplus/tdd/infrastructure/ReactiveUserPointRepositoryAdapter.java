@@ -0,0 +1,37 @@
+package io.hhplus.tdd.infrastructure;
+
+import io.hhplus.tdd.domain.point.ReactiveUserPointRepository;
+import io.hhplus.tdd.domain.point.UserPointRepository;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * UserPointRepository 를 ReactiveUserPointRepository 로 사용하기 위한 어댑터
+ * 블로킹 저장소(UserPointTable 등)의 호출은 scheduler 에서 실행해 event-loop 스레드를 점유하지 않습니다.
+ */
+public class ReactiveUserPointRepositoryAdapter implements ReactiveUserPointRepository {
+
+    private final UserPointRepository delegate;
+    private final Scheduler scheduler;
+
+    public ReactiveUserPointRepositoryAdapter(UserPointRepository delegate, Scheduler scheduler) {
+        this.delegate = delegate;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public Mono<UserPoint> selectById(long id) {
+        return Mono.fromCallable(() -> delegate.selectById(id).orElse(null)).subscribeOn(scheduler);
+    }
+
+    @Override
+    public Mono<UserPoint> addAndGet(long id, long amount) {
+        return Mono.fromCallable(() -> delegate.addAndGet(id, amount)).subscribeOn(scheduler);
+    }
+
+    @Override
+    public Mono<UserPoint> tryDebit(long id, long amount) {
+        return Mono.fromCallable(() -> delegate.tryDebit(id, amount).orElse(null)).subscribeOn(scheduler);
+    }
+}
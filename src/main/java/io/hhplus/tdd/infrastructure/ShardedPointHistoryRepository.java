@@ -0,0 +1,68 @@
+package io.hhplus.tdd.infrastructure;
+
+import io.hhplus.tdd.common.UserIdHash;
+import io.hhplus.tdd.domain.point.PointHistoryRepository;
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * userId 해시로 나눈 shard 별 PointHistoryRepository 에 요청을 전달하는 저장소
+ * 내역 id 는 shard 마다 따로 발급하므로 유저 안에서만 유일하고 순서가 보장됩니다. (페이지 cursor 는 유저 단위라 영향 없음)
+ */
+public class ShardedPointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+
+    private final PointHistoryRepository[] shards;
+
+    public ShardedPointHistoryRepository(List<PointHistoryRepository> shards) {
+        this.shards = shards.toArray(PointHistoryRepository[]::new);
+    }
+
+    public PointHistoryRepository shard(int index) {
+        return shards[index];
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long uptimeMillis) {
+        return shardOf(userId).insert(userId, amount, type, uptimeMillis);
+    }
+
+    @Override
+    public Optional<List<PointHistory>> selectAllByUserId(long userId) {
+        return shardOf(userId).selectAllByUserId(userId);
+    }
+
+    @Override
+    public List<PointHistory> selectPageByUserId(long userId, PointHistoryQuery query) {
+        return shardOf(userId).selectPageByUserId(userId, query);
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateByUserId(long userId) {
+        return shardOf(userId).iterateByUserId(userId);
+    }
+
+    /**
+     * 종료가 필요한 shard 저장소(AsyncPointHistoryRepository, MappedPointHistoryRepository)를 모두 닫음
+     */
+    @Override
+    public void close() throws Exception {
+        for (PointHistoryRepository shard : shards) {
+            if ( shard instanceof AutoCloseable closeable ) {
+                closeable.close();
+            }
+        }
+    }
+
+    private PointHistoryRepository shardOf(long userId) {
+        return shards[UserIdHash.bucket(userId, shards.length)];
+    }
+}
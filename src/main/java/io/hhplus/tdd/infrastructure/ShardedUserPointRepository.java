@@ -0,0 +1,53 @@
+package io.hhplus.tdd.infrastructure;
+
+import io.hhplus.tdd.common.UserIdHash;
+import io.hhplus.tdd.domain.point.UserPointRepository;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * userId 해시로 나눈 shard 별 UserPointRepository 에 요청을 전달하는 저장소
+ * 각 shard 의 저장소는 서로 구조를 공유하지 않으며, shard 번호는 PointShardRouter 와 같은 UserIdHash.bucket 으로 정합니다.
+ */
+public class ShardedUserPointRepository implements UserPointRepository {
+
+    private final UserPointRepository[] shards;
+
+    public ShardedUserPointRepository(List<UserPointRepository> shards) {
+        this.shards = shards.toArray(UserPointRepository[]::new);
+    }
+
+    public UserPointRepository shard(int index) {
+        return shards[index];
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    @Override
+    public Optional<UserPoint> selectById(long id) {
+        return shardOf(id).selectById(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        return shardOf(id).insertOrUpdate(id, amount);
+    }
+
+    @Override
+    public UserPoint addAndGet(long id, long amount) {
+        return shardOf(id).addAndGet(id, amount);
+    }
+
+    @Override
+    public Optional<UserPoint> tryDebit(long id, long amount) {
+        return shardOf(id).tryDebit(id, amount);
+    }
+
+    private UserPointRepository shardOf(long id) {
+        return shards[UserIdHash.bucket(id, shards.length)];
+    }
+}
@@ -1,20 +1,32 @@
 package io.hhplus.tdd.infrastructure;
 
+import io.hhplus.tdd.common.LockTable;
+import io.hhplus.tdd.common.RefCountedLockTable;
 import io.hhplus.tdd.common.UserPointTable;
 import io.hhplus.tdd.domain.point.UserPointRepository;
 import io.hhplus.tdd.domain.point.model.UserPoint;
-import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
 
-@Repository
-@RequiredArgsConstructor
-@Qualifier("userPointRepositoryImplement")
+/**
+ * UserPointTable 을 사용한 UserPointRepository 기준 구현체
+ * UserPointTable 은 원자적 갱신 API 가 없으므로 addAndGet/tryDebit 은 userId 별 락 안에서 조회 후 저장합니다.
+ * (stripe 락은 서로 다른 유저가 같은 stripe 에서 throttle 시간만큼 대기하므로, 사용 중인 유저에게만 락을 두는 RefCountedLockTable 사용)
+ */
 public class UserPointRepositoryImplement implements UserPointRepository {
 
-    private final UserPointTable userPointTable = new UserPointTable();
+    private final UserPointTable userPointTable;
+    private final LockTable lockTable = new RefCountedLockTable(false);
+
+    public UserPointRepositoryImplement() {
+        this(new UserPointTable());
+    }
+
+    public UserPointRepositoryImplement(UserPointTable userPointTable) {
+        this.userPointTable = userPointTable;
+    }
 
     public Optional<UserPoint> selectById(long id) {
         return userPointTable.selectById(id);
@@ -23,4 +35,34 @@ public class UserPointRepositoryImplement implements UserPointRepository {
     public UserPoint insertOrUpdate(long id, long amount) {
         return userPointTable.insertOrUpdate(id, amount);
     }
+
+    @Override
+    public UserPoint addAndGet(long id, long amount) {
+        return withLock(id, () -> {
+            long currentAmount = userPointTable.selectById(id).map(UserPoint::points).orElse(0L);
+            return userPointTable.insertOrUpdate(id, currentAmount + amount);
+        });
+    }
+
+    @Override
+    public Optional<UserPoint> tryDebit(long id, long amount) {
+        return withLock(id, () -> {
+            Optional<UserPoint> currentUserPoint = userPointTable.selectById(id);
+            if ( currentUserPoint.isEmpty() || currentUserPoint.get().points() < amount ) {
+                return Optional.empty();
+            }
+            return Optional.of(userPointTable.insertOrUpdate(id, currentUserPoint.get().points() - amount));
+        });
+    }
+
+    private <T> T withLock(long id, Supplier<T> function) {
+        Lock lock = lockTable.lockFor(id);
+        lock.lock();
+        try {
+            return function.get();
+        } finally {
+            lock.unlock();
+            lockTable.release(id, lock);
+        }
+    }
 }
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.infrastructure;
+
+/**
+ * UserPointRepository 구현 방식
+ * - TABLE : UserPointTable 사용 (기준 구현)
+ * - LOCK_FREE : 원시 타입 배열 기반 개방 주소법 해시 테이블인 LockFreeUserPointRepository 사용
+ */
+public enum UserPointStoreType {
+    TABLE, LOCK_FREE
+}
@@ -0,0 +1,52 @@
+package io.hhplus.tdd.persistence;
+
+import io.hhplus.tdd.domain.point.PointHistoryRepository;
+import io.hhplus.tdd.domain.point.UserPointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class PersistenceConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(PersistenceConfig.class);
+
+    /**
+     * 스냅샷과 기존 기록으로 저장소를 복구한 뒤 write-ahead log 를 반환 (point.wal.enabled=true)
+     * PointManager 가 이 빈에 의존하므로 복구가 끝난 뒤에 요청을 처리합니다.
+     * WriteAheadLog 는 종료 시 close()(destroyMethod 추론)로 남은 기록을 반영합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "point.wal", name = "enabled", havingValue = "true")
+    public WriteAheadLog pointJournal(WalProperties walProperties,
+                                      @Qualifier("userPointRepository") UserPointRepository userPointRepository,
+                                      @Qualifier("pointHistoryRepository") PointHistoryRepository pointHistoryRepository) throws IOException {
+        Path directory = Path.of(walProperties.getDirectory());
+        PointJournalReplayer.ReplayResult result = new PointJournalReplayer(userPointRepository, pointHistoryRepository).replay(directory);
+        logger.info(String.format("스냅샷(%d byte)과 이후 기록 %d건으로 유저 %d명의 잔고와 내역을 %dms 만에 복구했습니다.",
+                result.snapshotBytes(), result.entries(), result.users(), result.elapsedMillis()));
+        return new WriteAheadLog(directory, walProperties.getSyncInterval(), walProperties.getSyncBytes(), walProperties.getSegmentBytes());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.wal", name = "enabled", havingValue = "true")
+    public PointSnapshotter pointSnapshotter(WriteAheadLog pointJournal, WalProperties walProperties) {
+        return new PointSnapshotter(pointJournal, walProperties.getSnapshotInterval());
+    }
+
+    /**
+     * point.wal.enabled=false 이면 기록하지 않음
+     */
+    @Bean
+    @ConditionalOnMissingBean(PointJournal.class)
+    public PointJournal noPointJournal() {
+        return PointJournal.NONE;
+    }
+}
@@ -0,0 +1,17 @@
+package io.hhplus.tdd.persistence;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 포인트 변경 기록 저장소
+ * PointManager 는 반환된 future 가 완료(디스크 반영)된 뒤에 내역을 추가하고 응답하며, 실패하면 잔고 변경을 반영하지 않거나 되돌립니다.
+ */
+public interface PointJournal {
+
+    /**
+     * 기록하지 않는 journal (point.wal.enabled=false)
+     */
+    PointJournal NONE = entry -> CompletableFuture.completedFuture(null);
+
+    CompletableFuture<Void> append(PointJournalEntry entry);
+}
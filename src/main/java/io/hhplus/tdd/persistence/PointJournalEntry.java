@@ -0,0 +1,23 @@
+package io.hhplus.tdd.persistence;
+
+import io.hhplus.tdd.domain.point.model.TransactionType;
+
+/**
+ * 포인트 충전/사용 한 건의 변경 기록
+ * - amount : 요청한 충전/사용 포인트
+ * - balance : 처리 후 잔고
+ */
+public record PointJournalEntry(
+        long userId,
+        TransactionType type,
+        long amount,
+        long balance,
+        long updateMillis
+) {
+    /**
+     * 잔고 변화량 (충전은 +amount, 사용은 -amount)
+     */
+    public long delta() {
+        return type == TransactionType.CHARGE ? amount : -amount;
+    }
+}
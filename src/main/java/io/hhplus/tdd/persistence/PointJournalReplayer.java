@@ -0,0 +1,68 @@
+package io.hhplus.tdd.persistence;
+
+import io.hhplus.tdd.domain.point.PointHistoryRepository;
+import io.hhplus.tdd.domain.point.UserPointRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스냅샷과 write-ahead log 의 기록으로 잔고와 내역을 복구
+ * - 최신 스냅샷이 있으면 스냅샷의 잔고/내역을 먼저 반영하고, 스냅샷 이후 segment 만 replay 합니다.
+ * - 내역은 기록 순서대로 한 건씩 추가합니다.
+ * - 잔고는 유저별 변화량의 합으로 계산해 마지막에 한 번만 저장합니다.
+ *   (ATOMIC 모드에서는 같은 유저의 기록 순서가 처리 순서와 다를 수 있지만, 변화량의 합은 순서와 무관)
+ */
+public class PointJournalReplayer {
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+
+    public PointJournalReplayer(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+    }
+
+    /**
+     * directory 의 스냅샷과 기록을 모두 반영
+     */
+    public ReplayResult replay(Path directory) throws IOException {
+        long start = System.nanoTime();
+        Map<Long, Long> balances = new HashMap<>();
+        Optional<Path> snapshot = PointSnapshot.latest(directory);
+        long coveredSegmentId = 0;
+        long snapshotBytes = 0;
+        if ( snapshot.isPresent() ) {
+            coveredSegmentId = PointSnapshot.coveredSegmentId(snapshot.get());
+            snapshotBytes = Files.size(snapshot.get());
+            PointSnapshot.read(snapshot.get(),
+                    entry -> pointHistoryRepository.insert(entry.userId(), entry.balance(), entry.type(), entry.updateMillis()),
+                    balances::put);
+        }
+        long entries = WriteAheadLog.replay(directory, coveredSegmentId, entry -> {
+            balances.merge(entry.userId(), entry.delta(), Long::sum);
+            pointHistoryRepository.insert(entry.userId(), entry.balance(), entry.type(), entry.updateMillis());
+        });
+        balances.forEach(userPointRepository::insertOrUpdate);
+        return new ReplayResult(snapshotBytes, entries, balances.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * 복구 결과
+     * - snapshotBytes : 읽은 스냅샷 크기 (스냅샷이 없으면 0)
+     * - entries : 스냅샷 이후 replay 한 기록 수
+     * - users : 잔고를 복구한 유저 수
+     */
+    public record ReplayResult(
+            long snapshotBytes,
+            long entries,
+            int users,
+            long elapsedMillis
+    ) {
+    }
+}
@@ -0,0 +1,156 @@
+package io.hhplus.tdd.persistence;
+
+import io.hhplus.tdd.domain.point.model.TransactionType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 잔고와 내역 전체를 담은 스냅샷 파일
+ * - 파일 이름은 포함된 마지막 write-ahead log segment 번호입니다. ({segment 번호}.snapshot)
+ * - 구성 : header(magic, version, segment 번호) / 내역(25 byte씩) / 잔고(16 byte씩) / trailer(내역 수, 잔고 수, magic)
+ * - 내역에는 잔고 계산에 필요 없는 요청 포인트(amount)를 저장하지 않으므로, 읽은 내역의 amount 는 0 입니다.
+ */
+public final class PointSnapshot {
+
+    private static final int MAGIC = 0x50534E50;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES * 2 + Long.BYTES;
+    private static final int HISTORY_BYTES = 1 + Long.BYTES * 3;
+    private static final int BALANCE_BYTES = Long.BYTES * 2;
+    private static final int TRAILER_BYTES = Long.BYTES * 2 + Integer.BYTES;
+    private static final String SUFFIX = ".snapshot";
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private PointSnapshot() {
+    }
+
+    /**
+     * directory 의 가장 최근 스냅샷
+     */
+    public static Optional<Path> latest(Path directory) throws IOException {
+        if ( !Files.isDirectory(directory) ) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .max(Path::compareTo);
+        }
+    }
+
+    public static Path pathOf(Path directory, long coveredSegmentId) {
+        return directory.resolve(String.format("%016d%s", coveredSegmentId, SUFFIX));
+    }
+
+    /**
+     * 스냅샷에 포함된 마지막 segment 번호
+     */
+    public static long coveredSegmentId(Path snapshot) {
+        String fileName = snapshot.getFileName().toString();
+        return Long.parseLong(fileName.substring(0, fileName.length() - SUFFIX.length()));
+    }
+
+    /**
+     * 내역을 기록 순서대로 history 에, 유저별 잔고를 balance 에 전달
+     */
+    public static void read(Path snapshot, Consumer<PointJournalEntry> history, BiConsumer<Long, Long> balance) throws IOException {
+        // trailer 의 건수로 전체 길이를 먼저 검증
+        long size = Files.size(snapshot);
+        long[] counts = readTrailer(snapshot, size);
+        if ( size != HEADER_BYTES + counts[0] * HISTORY_BYTES + counts[1] * BALANCE_BYTES + TRAILER_BYTES ) {
+            throw new IllegalStateException(snapshot.getFileName() + " 스냅샷 파일이 손상되었습니다.");
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot), 1 << 16))) {
+            if ( input.readInt() != MAGIC || input.readInt() != VERSION || input.readLong() != coveredSegmentId(snapshot) ) {
+                throw new IllegalStateException(snapshot.getFileName() + " 은(는) 올바른 스냅샷 파일이 아닙니다.");
+            }
+            for (long i = 0; i < counts[0]; i++) {
+                TransactionType type = TYPES[input.readByte()];
+                long userId = input.readLong();
+                long balanceAfter = input.readLong();
+                long updateMillis = input.readLong();
+                history.accept(new PointJournalEntry(userId, type, 0L, balanceAfter, updateMillis));
+            }
+            for (long i = 0; i < counts[1]; i++) {
+                balance.accept(input.readLong(), input.readLong());
+            }
+        }
+    }
+
+    private static long[] readTrailer(Path snapshot, long size) throws IOException {
+        if ( size < HEADER_BYTES + TRAILER_BYTES ) {
+            throw new IllegalStateException(snapshot.getFileName() + " 스냅샷 파일이 손상되었습니다.");
+        }
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(snapshot))) {
+            input.skipNBytes(size - TRAILER_BYTES);
+            long historyCount = input.readLong();
+            long balanceCount = input.readLong();
+            if ( input.readInt() != MAGIC ) {
+                throw new IllegalStateException(snapshot.getFileName() + " 스냅샷 파일이 손상되었습니다.");
+            }
+            return new long[]{historyCount, balanceCount};
+        }
+    }
+
+    public static Writer writer(Path file, long coveredSegmentId) throws IOException {
+        return new Writer(file, coveredSegmentId);
+    }
+
+    /**
+     * 내역을 순서대로 쓴 뒤 finish 로 잔고와 trailer 를 쓰고 디스크에 반영
+     */
+    public static class Writer implements AutoCloseable {
+        private final FileOutputStream file;
+        private final DataOutputStream output;
+        private long historyCount;
+
+        private Writer(Path path, long coveredSegmentId) throws IOException {
+            this.file = new FileOutputStream(path.toFile());
+            this.output = new DataOutputStream(new BufferedOutputStream(file, 1 << 16));
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeLong(coveredSegmentId);
+        }
+
+        public void writeHistory(PointJournalEntry entry) {
+            try {
+                output.writeByte(entry.type().ordinal());
+                output.writeLong(entry.userId());
+                output.writeLong(entry.balance());
+                output.writeLong(entry.updateMillis());
+                historyCount++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        public void finish(Map<Long, Long> balances) throws IOException {
+            for (Map.Entry<Long, Long> balance : balances.entrySet()) {
+                output.writeLong(balance.getKey());
+                output.writeLong(balance.getValue());
+            }
+            output.writeLong(historyCount);
+            output.writeLong(balances.size());
+            output.writeInt(MAGIC);
+            output.flush();
+            file.getChannel().force(true);
+        }
+
+        @Override
+        public void close() throws IOException {
+            output.close();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package io.hhplus.tdd.persistence;
+
+import io.hhplus.tdd.common.PointThreads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * write-ahead log 를 주기적으로 스냅샷으로 합치고, 스냅샷에 포함된 segment 를 삭제하는 컴포넌트
+ * - 현재 segment 를 닫아(rollSegment) 그 이전 segment 까지를 기준 시점으로 삼습니다.
+ *   닫힌 segment 는 변경되지 않으므로 기록(충전/사용)을 멈추지 않고도 일관된 스냅샷을 만듭니다.
+ * - 직전 스냅샷 + 이후 닫힌 segment 를 읽어 새 스냅샷을 임시 파일에 쓰고, fsync 후 이름을 바꿔 교체합니다.
+ *   닫힌 segment 가 손상되었으면 스냅샷을 만들지 않고 실패합니다. (손상된 기록을 스냅샷에 굳히지 않음)
+ * - 시작 시에는 최신 스냅샷을 읽고 이후 segment 만 replay 하면 됩니다. (PointJournalReplayer)
+ */
+public class PointSnapshotter implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PointSnapshotter.class);
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final WriteAheadLog writeAheadLog;
+    private final Path directory;
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private final ScheduledExecutorService scheduler;
+
+    public PointSnapshotter(WriteAheadLog writeAheadLog, Duration interval) {
+        this.writeAheadLog = writeAheadLog;
+        this.directory = writeAheadLog.directory();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(PointThreads.named("point-wal-snapshot", false));
+        long intervalMillis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::snapshotQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 닫힌 segment 를 스냅샷으로 합치고, 새 스냅샷 경로를 반환 (합칠 segment 가 없으면 빈 값)
+     */
+    public Optional<Path> snapshot() throws IOException {
+        snapshotLock.lock();
+        try {
+            long start = System.nanoTime();
+            long cut = writeAheadLog.rollSegment();
+            Optional<Path> previous = PointSnapshot.latest(directory);
+            long covered = previous.map(PointSnapshot::coveredSegmentId).orElse(0L);
+            List<Path> sealed = new ArrayList<>();
+            for (Path segment : WriteAheadLog.segments(directory)) {
+                long segmentId = WriteAheadLog.segmentId(segment);
+                if ( segmentId <= covered ) {
+                    // 스냅샷 교체 직후 종료되어 남은 segment
+                    Files.deleteIfExists(segment);
+                } else if ( segmentId <= cut ) {
+                    sealed.add(segment);
+                }
+            }
+            if ( sealed.isEmpty() ) {
+                return Optional.empty();
+            }
+
+            Path snapshot = PointSnapshot.pathOf(directory, cut);
+            Path temp = directory.resolve(snapshot.getFileName() + TEMP_SUFFIX);
+            Map<Long, Long> balances = new HashMap<>();
+            try (PointSnapshot.Writer writer = PointSnapshot.writer(temp, cut)) {
+                if ( previous.isPresent() ) {
+                    PointSnapshot.read(previous.get(), writer::writeHistory, balances::put);
+                }
+                for (Path segment : sealed) {
+                    // 닫힌 segment 가 손상되었으면 스냅샷을 만들지 않고 segment 를 그대로 둠
+                    WriteAheadLog.replaySegment(segment, false, entry -> {
+                        writer.writeHistory(entry);
+                        balances.merge(entry.userId(), entry.delta(), Long::sum);
+                    });
+                }
+                writer.finish(balances);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+            Files.move(temp, snapshot, StandardCopyOption.ATOMIC_MOVE);
+
+            // 새 스냅샷에 포함된 이전 스냅샷과 segment 삭제
+            if ( previous.isPresent() ) {
+                Files.deleteIfExists(previous.get());
+            }
+            for (Path segment : sealed) {
+                Files.deleteIfExists(segment);
+            }
+            logger.info(String.format("스냅샷 %s(%d byte, 유저 %d명)을 %dms 만에 만들고 segment %d개를 삭제했습니다.",
+                    snapshot.getFileName(), Files.size(snapshot), balances.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), sealed.size()));
+            return Optional.of(snapshot);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            logger.error("스냅샷 생성에 실패했습니다.", e);
+        }
+    }
+}
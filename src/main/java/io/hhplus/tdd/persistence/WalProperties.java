@@ -0,0 +1,43 @@
+package io.hhplus.tdd.persistence;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * write-ahead log 설정 (application.yml 의 point.wal.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.wal")
+public class WalProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * segment 파일을 저장할 디렉터리
+     */
+    private String directory = "data/wal";
+
+    /**
+     * 첫 기록이 들어온 뒤 다른 기록을 모으기 위해 fsync 를 미루는 최대 시간
+     */
+    private Duration syncInterval = Duration.ofMillis(2);
+
+    /**
+     * 모인 기록이 이 크기를 넘으면 syncInterval 을 기다리지 않고 바로 fsync
+     */
+    private int syncBytes = 64 * 1024;
+
+    /**
+     * segment 파일 하나의 최대 크기 (넘으면 새 segment 로 교체)
+     */
+    private long segmentBytes = 64L * 1024 * 1024;
+
+    /**
+     * 닫힌 segment 를 스냅샷으로 합치는 주기 (합친 segment 는 삭제)
+     */
+    private Duration snapshotInterval = Duration.ofMinutes(5);
+}
@@ -0,0 +1,329 @@
+package io.hhplus.tdd.persistence;
+
+import io.hhplus.tdd.common.PointThreads;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 포인트 변경 기록을 segment 파일에 이어 쓰는 write-ahead log
+ * - 기록은 고정 길이(37 byte) 바이너리 레코드입니다. (type 1 + userId/amount/balance/updateMillis 각 8 + CRC32C 4)
+ * - 단일 writer 스레드가 syncInterval 동안(또는 syncBytes 만큼) 모인 기록을 한 번에 쓰고 fsync 하며,
+ *   fsync 가 끝난 뒤 해당 기록들의 future 를 완료합니다. (group commit: 요청마다가 아니라 묶음마다 fsync 1회)
+ * - segment 가 segmentBytes 를 넘으면 다음 번호의 segment 로 교체하며, 시작할 때마다 새 segment 에 기록합니다.
+ * - replay 는 segment 번호 순으로 읽으며, 마지막 segment 에서 비정상 종료로 잘린/손상된 레코드부터는 잘라냅니다.
+ *   마지막이 아닌(닫힌) segment 의 손상은 이후 기록과의 사이에 빈틈을 만들므로 잘라내지 않고 IOException 으로 실패합니다.
+ * - rollSegment() 로 닫힌 segment 는 더 이상 변경되지 않으므로, 기록을 멈추지 않고 스냅샷(PointSnapshotter)을 만들 수 있습니다.
+ */
+public class WriteAheadLog implements PointJournal, AutoCloseable {
+
+    static final int RECORD_BYTES = 37;
+    private static final int PAYLOAD_BYTES = RECORD_BYTES - Integer.BYTES;
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final Logger logger = LoggerFactory.getLogger(WriteAheadLog.class);
+
+    private final Path directory;
+    private final long syncIntervalNanos;
+    private final int maxBatchRecords;
+    private final long segmentBytes;
+    private final BlockingQueue<PendingEntry> queue = new LinkedBlockingQueue<>();
+    private final ByteBuffer buffer;
+    private final ReentrantLock commitLock = new ReentrantLock();
+    private final Thread writer;
+    private FileChannel channel;
+    private long segmentId;
+    private long segmentSize;
+    private volatile boolean closed;
+
+    public WriteAheadLog(Path directory, Duration syncInterval, int syncBytes, long segmentBytes) throws IOException {
+        this.directory = directory;
+        this.syncIntervalNanos = syncInterval.toNanos();
+        this.maxBatchRecords = Math.max(1, syncBytes / RECORD_BYTES);
+        this.segmentBytes = segmentBytes;
+        this.buffer = ByteBuffer.allocate(maxBatchRecords * RECORD_BYTES);
+        Files.createDirectories(directory);
+        List<Path> segments = segments(directory);
+        openSegment(segments.isEmpty() ? 1 : segmentId(segments.get(segments.size() - 1)) + 1);
+        this.writer = PointThreads.named("point-wal-writer", false).newThread(this::writeLoop);
+        this.writer.start();
+    }
+
+    @Override
+    public CompletableFuture<Void> append(PointJournalEntry entry) {
+        PendingEntry pendingEntry = new PendingEntry(entry, new CompletableFuture<>());
+        if ( closed ) {
+            return CompletableFuture.failedFuture(new IllegalStateException("변경 내역 기록이 종료되었습니다."));
+        }
+        queue.add(pendingEntry);
+        if ( closed && !writer.isAlive() ) {
+            // close() 와 경합해 writer 종료 후 적재된 기록
+            commitRemaining();
+        }
+        return pendingEntry.result();
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    /**
+     * 현재 segment 를 닫고 다음 segment 로 교체한 뒤, 닫힌 마지막 segment 번호를 반환
+     * (현재 segment 가 비어 있으면 교체하지 않음)
+     */
+    public long rollSegment() throws IOException {
+        commitLock.lock();
+        try {
+            if ( segmentSize == 0 ) {
+                return segmentId - 1;
+            }
+            channel.close();
+            openSegment(segmentId + 1);
+            return segmentId - 1;
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    /**
+     * 남은 기록을 모두 디스크에 반영한 뒤 writer 와 segment 파일을 닫음
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        commitRemaining();
+        commitLock.lock();
+        try {
+            channel.close();
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    /**
+     * directory 의 segment 를 번호 순으로 읽어 consumer 에 전달하고, 읽은 기록 수를 반환
+     */
+    public static long replay(Path directory, Consumer<PointJournalEntry> consumer) throws IOException {
+        return replay(directory, 0, consumer);
+    }
+
+    /**
+     * afterSegmentId 보다 큰 번호의 segment 만 읽음 (스냅샷에 포함된 segment 제외)
+     */
+    public static long replay(Path directory, long afterSegmentId, Consumer<PointJournalEntry> consumer) throws IOException {
+        long count = 0;
+        List<Path> segments = segments(directory);
+        for (int i = 0; i < segments.size(); i++) {
+            Path segment = segments.get(i);
+            if ( segmentId(segment) > afterSegmentId ) {
+                // 비정상 종료 시 기록 중이던 segment 는 가장 마지막 segment 뿐
+                count += replaySegment(segment, i == segments.size() - 1, consumer);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * directory 의 segment 파일 목록 (번호 순)
+     */
+    static List<Path> segments(Path directory) throws IOException {
+        if ( !Files.isDirectory(directory) ) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    static long segmentId(Path segment) {
+        String fileName = segment.getFileName().toString();
+        return Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * segment 의 기록을 순서대로 consumer 에 전달
+     * 손상된 레코드를 만나면 truncateTornTail 이 true(기록 중이던 마지막 segment)일 때만 그 위치부터 잘라내고,
+     * 아니면 IOException 으로 실패합니다.
+     */
+    static long replaySegment(Path segment, boolean truncateTornTail, Consumer<PointJournalEntry> consumer) throws IOException {
+        long count = 0;
+        try (FileChannel readChannel = FileChannel.open(segment, StandardOpenOption.READ,
+                truncateTornTail ? StandardOpenOption.WRITE : StandardOpenOption.READ)) {
+            long size = readChannel.size();
+            long valid = 0;
+            ByteBuffer readBuffer = ByteBuffer.allocate(RECORD_BYTES * 4096);
+            while (valid + RECORD_BYTES <= size) {
+                readBuffer.clear();
+                readBuffer.limit((int) Math.min(readBuffer.capacity(), (size - valid) / RECORD_BYTES * RECORD_BYTES));
+                readFully(readChannel, readBuffer, valid);
+                readBuffer.flip();
+                boolean corrupted = false;
+                while (readBuffer.remaining() >= RECORD_BYTES) {
+                    PointJournalEntry entry = decode(readBuffer);
+                    if ( entry == null ) {
+                        corrupted = true;
+                        break;
+                    }
+                    consumer.accept(entry);
+                    valid += RECORD_BYTES;
+                    count++;
+                }
+                if ( corrupted || readBuffer.hasRemaining() ) {
+                    break;
+                }
+            }
+            if ( valid < size && !truncateTornTail ) {
+                throw new IOException(String.format("닫힌 segment %s 의 %d byte 위치부터 기록이 손상되었습니다.", segment.getFileName(), valid));
+            }
+            if ( valid < size ) {
+                logger.warn(String.format("%s 의 손상된 기록 %d byte 를 잘라냈습니다.", segment.getFileName(), size - valid));
+                readChannel.truncate(valid);
+            }
+        }
+        return count;
+    }
+
+    private static void readFully(FileChannel readChannel, ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            if ( readChannel.read(target, position + target.position()) < 0 ) {
+                return;
+            }
+        }
+    }
+
+    private void openSegment(long nextSegmentId) throws IOException {
+        Path segment = directory.resolve(String.format("%016d%s", nextSegmentId, SEGMENT_SUFFIX));
+        channel = FileChannel.open(segment, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        segmentId = nextSegmentId;
+        segmentSize = 0;
+    }
+
+    private void writeLoop() {
+        List<PendingEntry> batch = new ArrayList<>(maxBatchRecords);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                PendingEntry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if ( first == null ) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + syncIntervalNanos;
+                while (batch.size() < maxBatchRecords) {
+                    queue.drainTo(batch, maxBatchRecords - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if ( batch.size() >= maxBatchRecords || remaining <= 0 ) {
+                        break;
+                    }
+                    PendingEntry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if ( next == null ) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // close() 로만 종료하며, 모은 기록은 계속 반영
+            }
+            commit(batch);
+            batch.clear();
+        }
+    }
+
+    private void commitRemaining() {
+        List<PendingEntry> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += maxBatchRecords) {
+            commit(remaining.subList(from, Math.min(remaining.size(), from + maxBatchRecords)));
+        }
+    }
+
+    /**
+     * 모은 기록을 한 번에 쓰고 fsync 한 뒤 future 완료
+     */
+    private void commit(List<PendingEntry> batch) {
+        if ( batch.isEmpty() ) {
+            return;
+        }
+        commitLock.lock();
+        try {
+            buffer.clear();
+            for (PendingEntry pendingEntry : batch) {
+                encode(pendingEntry.entry(), buffer);
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            segmentSize += (long) batch.size() * RECORD_BYTES;
+            batch.forEach(pendingEntry -> pendingEntry.result().complete(null));
+            if ( segmentSize >= segmentBytes ) {
+                channel.close();
+                openSegment(segmentId + 1);
+            }
+        } catch (IOException e) {
+            logger.error("변경 내역 기록에 실패했습니다.", e);
+            batch.forEach(pendingEntry -> pendingEntry.result().completeExceptionally(e));
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    private static void encode(PointJournalEntry entry, ByteBuffer target) {
+        int start = target.position();
+        target.put((byte) entry.type().ordinal())
+                .putLong(entry.userId())
+                .putLong(entry.amount())
+                .putLong(entry.balance())
+                .putLong(entry.updateMillis());
+        CRC32C crc = new CRC32C();
+        crc.update(target.array(), start, PAYLOAD_BYTES);
+        target.putInt((int) crc.getValue());
+    }
+
+    /**
+     * 레코드 하나를 읽어 반환 (CRC 가 맞지 않으면 null)
+     */
+    private static PointJournalEntry decode(ByteBuffer source) {
+        int start = source.position();
+        CRC32C crc = new CRC32C();
+        crc.update(source.array(), source.arrayOffset() + start, PAYLOAD_BYTES);
+        byte type = source.get();
+        long userId = source.getLong();
+        long amount = source.getLong();
+        long balance = source.getLong();
+        long updateMillis = source.getLong();
+        int checksum = source.getInt();
+        if ( checksum != (int) crc.getValue() || type < 0 || type >= TYPES.length ) {
+            return null;
+        }
+        return new PointJournalEntry(userId, TYPES[type], amount, balance, updateMillis);
+    }
+
+    private record PendingEntry(PointJournalEntry entry, CompletableFuture<Void> result) {
+    }
+}
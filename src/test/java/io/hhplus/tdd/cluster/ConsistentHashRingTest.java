@@ -0,0 +1,59 @@
+package io.hhplus.tdd.cluster;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class ConsistentHashRingTest {
+
+    @Test
+    void 노드_목록의_순서와_관계없이_같은_소유_노드를_반환한다() {
+        // given: 설정 순서만 다른 두 ring
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("node-1", "node-2", "node-3"), 160);
+        ConsistentHashRing reordered = new ConsistentHashRing(List.of("node-3", "node-1", "node-2"), 160);
+
+        // then
+        for (long userId = 1; userId <= 10_000; userId++) {
+            Assertions.assertEquals(ring.ownerOf(userId), reordered.ownerOf(userId));
+        }
+    }
+
+    @Test
+    void 유저가_노드에_고르게_분산된다() {
+        // given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("node-1", "node-2", "node-3"), 160);
+
+        // when: 연속된 userId 30만 명의 소유 노드 집계
+        Map<String, Integer> counts = new HashMap<>();
+        for (long userId = 1; userId <= 300_000; userId++) {
+            counts.merge(ring.ownerOf(userId), 1, Integer::sum);
+        }
+
+        // then: 각 노드가 평균(10만 명)의 ±20% 이내를 소유함을 검증
+        Assertions.assertEquals(3, counts.size());
+        counts.values().forEach(count -> Assertions.assertTrue(count > 80_000 && count < 120_000, "count: " + count));
+    }
+
+    @Test
+    void 노드를_추가하면_추가된_노드로_옮겨지는_유저만_소유_노드가_바뀐다() {
+        // given
+        ConsistentHashRing before = new ConsistentHashRing(List.of("node-1", "node-2", "node-3"), 160);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("node-1", "node-2", "node-3", "node-4"), 160);
+
+        // when
+        int moved = 0;
+        for (long userId = 1; userId <= 100_000; userId++) {
+            String owner = after.ownerOf(userId);
+            if ( !owner.equals(before.ownerOf(userId)) ) {
+                Assertions.assertEquals("node-4", owner);
+                moved++;
+            }
+        }
+
+        // then: 약 1/4 의 유저만 새 노드로 이동함을 검증
+        Assertions.assertTrue(moved > 15_000 && moved < 35_000, "moved: " + moved);
+    }
+}
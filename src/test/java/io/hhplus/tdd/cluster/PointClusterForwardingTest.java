@@ -0,0 +1,154 @@
+package io.hhplus.tdd.cluster;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.domain.point.PointShardRouter;
+import io.hhplus.tdd.domain.point.dto.PointOperation;
+import io.hhplus.tdd.domain.point.dto.PointOperationResult;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * localhost 의 두 포트로 노드 2개를 띄워 소유 노드 전달을 검증
+ */
+class PointClusterForwardingTest {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String node1Url;
+    private String node2Url;
+    private ConfigurableApplicationContext node1;
+    private ConfigurableApplicationContext node2;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        node1Url = "http://localhost:" + freePort();
+        node2Url = "http://localhost:" + freePort();
+        node1 = start("node-1", node1Url);
+        node2 = start("node-2", node2Url);
+    }
+
+    @AfterEach
+    void tearDown() {
+        node1.close();
+        node2.close();
+    }
+
+    @Test
+    void 다른_노드가_소유한_유저의_충전과_조회는_소유_노드에서_처리된다() throws Exception {
+        // given: node-2 가 소유한 유저
+        long userId = userOwnedBy("node-2", 1L);
+
+        // when: node-1 로 충전 요청 후 node-1 로 조회
+        HttpResponse<String> charged = send(HttpRequest.newBuilder(URI.create(node1Url + "/points/" + userId + "/charge"))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"amount\": 1000}")));
+        HttpResponse<String> found = send(HttpRequest.newBuilder(URI.create(node1Url + "/points/" + userId)).GET());
+
+        // then: 잔고는 node-2 에만 저장되고, node-1 은 node-2 의 응답을 그대로 돌려줌을 검증
+        Assertions.assertEquals(200, charged.statusCode());
+        Assertions.assertEquals(200, found.statusCode());
+        Assertions.assertTrue(found.body().contains("\"points\":1000"));
+        Assertions.assertEquals(1000L, node2.getBean(PointShardRouter.class).findPoints(userId).get().points());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> node1.getBean(PointShardRouter.class).findPoints(userId));
+    }
+
+    @Test
+    void 여러_노드에_걸친_일괄_처리는_소유_노드별로_처리해_요청_순서대로_반환한다() throws Exception {
+        // given: 두 노드의 유저에 대한 충전과, 잔고를 초과하는 사용
+        long node1User = userOwnedBy("node-1", 1L);
+        long node2User = userOwnedBy("node-2", 1L);
+        List<PointOperation> operations = new ArrayList<>();
+        operations.add(new PointOperation(node2User, TransactionType.CHARGE, 500L));
+        operations.add(new PointOperation(node1User, TransactionType.CHARGE, 300L));
+        operations.add(new PointOperation(node2User, TransactionType.USE, 1000L));
+        operations.add(new PointOperation(node1User, TransactionType.USE, 100L));
+
+        // when
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(node1Url + "/points/batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(operations))));
+        List<PointOperationResult> results = objectMapper.readValue(response.body(), new TypeReference<>() {
+        });
+
+        // then
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals(List.of(node2User, node1User, node2User, node1User), results.stream().map(PointOperationResult::userId).toList());
+        Assertions.assertEquals(List.of(true, true, false, true), results.stream().map(PointOperationResult::success).toList());
+        Assertions.assertEquals(500L, node2.getBean(PointShardRouter.class).findPoints(node2User).get().points());
+        Assertions.assertEquals(200L, node1.getBean(PointShardRouter.class).findPoints(node1User).get().points());
+    }
+
+    @Test
+    void 전달_헤더가_있어도_소유하지_않은_유저의_요청은_거절한다() throws Exception {
+        // given: node-2 가 소유한 유저
+        long userId = userOwnedBy("node-2", 1L);
+
+        // when: 클라이언트가 전달 헤더를 붙여 node-1 로 직접 충전과 일괄 처리 요청
+        HttpResponse<String> charged = send(HttpRequest.newBuilder(URI.create(node1Url + "/points/" + userId + "/charge"))
+                .header("Content-Type", "application/json")
+                .header(PointForwardingFilter.FORWARDED_HEADER, "node-2")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"amount\": 1000}")));
+        HttpResponse<String> batch = send(HttpRequest.newBuilder(URI.create(node1Url + "/points/batch"))
+                .header("Content-Type", "application/json")
+                .header(PointForwardingFilter.FORWARDED_HEADER, "node-2")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(
+                        List.of(new PointOperation(userId, TransactionType.CHARGE, 1000L))))));
+
+        // then: 421 로 거절되고 어느 노드에도 반영되지 않음을 검증
+        Assertions.assertEquals(421, charged.statusCode());
+        Assertions.assertEquals(421, batch.statusCode());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> node1.getBean(PointShardRouter.class).findPoints(userId));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> node2.getBean(PointShardRouter.class).findPoints(userId));
+    }
+
+    /**
+     * application.yml 보다 우선하도록 설정을 실행 인자로 전달 (SpringApplicationBuilder.properties 는 기본값으로만 쓰임)
+     */
+    private ConfigurableApplicationContext start(String nodeId, String url) {
+        return new SpringApplicationBuilder(TddApplication.class).run(
+                "--server.port=" + URI.create(url).getPort(),
+                "--point.cluster.enabled=true",
+                "--point.cluster.node-id=" + nodeId,
+                "--point.cluster.nodes.node-1=" + node1Url,
+                "--point.cluster.nodes.node-2=" + node2Url,
+                "--point.storage.user-point=LOCK_FREE",
+                "--point.storage.history=INDEXED"
+        );
+    }
+
+    private long userOwnedBy(String nodeId, long from) {
+        ConsistentHashRing ring = node1.getBean(ConsistentHashRing.class);
+        long userId = from;
+        while (!ring.ownerOf(userId).equals(nodeId)) {
+            userId++;
+        }
+        return userId;
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
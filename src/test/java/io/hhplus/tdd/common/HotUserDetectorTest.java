@@ -0,0 +1,117 @@
+package io.hhplus.tdd.common;
+
+import io.hhplus.tdd.domain.point.dto.HotUser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class HotUserDetectorTest {
+
+    private static HotUserProperties properties(Duration window) {
+        HotUserProperties hotUserProperties = new HotUserProperties();
+        hotUserProperties.setEnabled(true);
+        hotUserProperties.setSampling(1);
+        hotUserProperties.setThreshold(100);
+        hotUserProperties.setWindow(window);
+        return hotUserProperties;
+    }
+
+    @Test
+    void 요청이_몰린_유저만_hot_user로_감지한다() {
+        // given
+        HotUserDetector hotUserDetector = new HotUserDetector(properties(Duration.ofMinutes(1)));
+
+        // when: 1번 유저 500건, 나머지 1000명은 1건씩
+        for (int i = 0; i < 500; i++) {
+            hotUserDetector.record(1L);
+        }
+        for (long userId = 2; userId <= 1001; userId++) {
+            hotUserDetector.record(userId);
+        }
+
+        // then: 추정치는 실제 요청 수 이상
+        List<HotUser> hotUsers = hotUserDetector.hotUsers();
+        Assertions.assertEquals(1, hotUsers.size());
+        Assertions.assertEquals(1L, hotUsers.get(0).userId());
+        Assertions.assertTrue(hotUsers.get(0).estimatedCount() >= 500);
+        Assertions.assertTrue(hotUserDetector.isHot(1L));
+        Assertions.assertFalse(hotUserDetector.isHot(2L));
+    }
+
+    @Test
+    void 요청이_줄어든_유저는_window가_지나면_해제된다() throws InterruptedException {
+        // given: 짧은 window 로 hot user 가 된 유저
+        HotUserDetector hotUserDetector = new HotUserDetector(properties(Duration.ofMillis(10)));
+        for (int i = 0; i < 150; i++) {
+            hotUserDetector.record(1L);
+        }
+        Assertions.assertTrue(hotUserDetector.isHot(1L));
+
+        // when: 다른 유저의 요청만 있는 상태로 여러 window 경과
+        for (int i = 0; i < 5; i++) {
+            Thread.sleep(15);
+            hotUserDetector.record(2L);
+        }
+
+        // then
+        Assertions.assertFalse(hotUserDetector.isHot(1L));
+        Assertions.assertTrue(hotUserDetector.estimate(1L) < 50);
+    }
+
+    @Test
+    void 여러_유저가_동시에_hot_user가_되어도_최대_개수를_넘지_않는다() throws Exception {
+        // given: 최대 4명, 요청 1건이면 hot user
+        HotUserProperties hotUserProperties = properties(Duration.ofMinutes(1));
+        hotUserProperties.setThreshold(1);
+        hotUserProperties.setMaxHotUsers(4);
+
+        for (int round = 0; round < 50; round++) {
+            HotUserDetector hotUserDetector = new HotUserDetector(hotUserProperties);
+
+            // when: 16개 스레드가 서로 다른 유저의 요청을 동시에 기록
+            ExecutorService executorService = Executors.newFixedThreadPool(16);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int thread = 0; thread < 16; thread++) {
+                long firstUserId = thread * 100L;
+                tasks.add(executorService.submit(() -> {
+                    start.await();
+                    for (long userId = firstUserId; userId < firstUserId + 100; userId++) {
+                        hotUserDetector.record(userId);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+            executorService.shutdown();
+
+            // then
+            Assertions.assertEquals(4, hotUserDetector.hotUsers().size());
+        }
+    }
+
+    @Test
+    void 비활성화된_경우_기록하지_않는다() {
+        // given
+        HotUserDetector hotUserDetector = HotUserDetector.NONE;
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            hotUserDetector.record(1L);
+        }
+
+        // then
+        Assertions.assertFalse(hotUserDetector.isHot(1L));
+        Assertions.assertTrue(hotUserDetector.hotUsers().isEmpty());
+    }
+}
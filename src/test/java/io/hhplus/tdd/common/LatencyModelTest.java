@@ -0,0 +1,85 @@
+package io.hhplus.tdd.common;
+
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+
+class LatencyModelTest {
+
+    @Test
+    void UNIFORM_모델은_0_이상_max_미만의_지연을_반환한다() {
+        // given
+        LatencyModel latencyModel = LatencyModel.uniform(Duration.ofMillis(200));
+        long maxNanos = Duration.ofMillis(200).toNanos();
+
+        // when & then
+        for (int i = 0; i < 10_000; i++) {
+            long delayNanos = latencyModel.nextDelayNanos();
+            Assertions.assertTrue(delayNanos >= 0 && delayNanos < maxNanos);
+        }
+    }
+
+    @Test
+    void LOG_NORMAL_모델은_설정한_중앙값과_p99를_따른다() {
+        // given: 중앙값 5ms, p99 50ms
+        LatencyModel latencyModel = LatencyModel.logNormal(Duration.ofMillis(5), Duration.ofMillis(50));
+
+        // when
+        long[] delays = new long[100_000];
+        for (int i = 0; i < delays.length; i++) {
+            delays[i] = latencyModel.nextDelayNanos();
+        }
+        Arrays.sort(delays);
+
+        // then: 표본 백분위수가 설정값의 ±10% 이내
+        Assertions.assertEquals(5_000_000, delays[delays.length / 2], 500_000);
+        Assertions.assertEquals(50_000_000, delays[delays.length * 99 / 100], 5_000_000);
+    }
+
+    @Test
+    void TRACE_모델은_기록된_지연을_순서대로_반복_재생한다() throws IOException {
+        // given: 주석과 빈 줄이 포함된 trace 파일
+        Path trace = Files.createTempFile("latency", ".trace");
+        Files.writeString(trace, "# 운영 응답 시간(ms)\n1\n\n2.5\n10\n");
+
+        try {
+            // when
+            LatencyModel latencyModel = LatencyModel.trace(trace);
+
+            // then
+            Assertions.assertEquals(1_000_000, latencyModel.nextDelayNanos());
+            Assertions.assertEquals(2_500_000, latencyModel.nextDelayNanos());
+            Assertions.assertEquals(10_000_000, latencyModel.nextDelayNanos());
+            Assertions.assertEquals(1_000_000, latencyModel.nextDelayNanos());
+        } finally {
+            Files.delete(trace);
+        }
+    }
+
+    @Test
+    void OFF_모델을_사용한_테이블은_지연_없이_저장한다() {
+        // given
+        UserPointTable userPointTable = new UserPointTable(LatencyModel.OFF, LatencyModel.OFF);
+        PointHistoryTable pointHistoryTable = new PointHistoryTable(LatencyModel.OFF);
+
+        // when
+        long start = System.nanoTime();
+        for (long userId = 1; userId <= 100; userId++) {
+            userPointTable.insertOrUpdate(userId, 1000L);
+            userPointTable.selectById(userId);
+            pointHistoryTable.insert(userId, 1000L, TransactionType.CHARGE, userId);
+        }
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // then: 기본 모델이면 평균 55초 이상 걸리는 작업
+        Assertions.assertTrue(elapsedMillis < 1000);
+        Assertions.assertEquals(1000L, userPointTable.selectById(1L).orElseThrow().points());
+        Assertions.assertEquals(1, pointHistoryTable.selectAllByUserId(1L).orElseThrow().size());
+    }
+}
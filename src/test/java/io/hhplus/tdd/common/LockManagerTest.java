@@ -1,11 +1,13 @@
 package io.hhplus.tdd.common;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.lang.reflect.Field;
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.*;
 import java.util.concurrent.locks.ReentrantLock;
@@ -43,9 +45,15 @@ public class LockManagerTest {
         lockMap.put(Long.toString(userId), new AlwaysFailingLock());
 
         // when
-        RuntimeException exception = Assertions.assertThrows(RuntimeException.class, () -> {
-            lockManager.executeFunctionWithLock(userId, function);
-        });
+        RuntimeException exception;
+        try {
+            exception = Assertions.assertThrows(RuntimeException.class, () -> {
+                lockManager.executeFunctionWithLock(userId, function);
+            });
+        } finally {
+            // 같은 LockManager 빈을 쓰는 다른 테스트가 이 유저의 락을 획득할 수 있도록 원래대로 제거
+            lockMap.remove(Long.toString(userId));
+        }
 
         // then
         Assertions.assertEquals("지정된 락 획득 시도 시간을 초과했습니다.", exception.getMessage());
@@ -88,4 +96,104 @@ public class LockManagerTest {
 
         executorService.shutdown();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void FAIL_FAST_모드에서는_다른_요청이_락을_점유_중이면_즉시_실패한다() throws Exception {
+        // given: FAIL_FAST 모드의 LockManager와 락을 점유한 채 대기하는 요청
+        LockProperties lockProperties = new LockProperties();
+        lockProperties.setMode(LockAcquisitionMode.FAIL_FAST);
+        LockManager failFastLockManager = new LockManager(lockProperties);
+        long userId = 100L;
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.submit(() -> failFastLockManager.executeFunctionWithLock(userId, () -> {
+            holding.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ignored) {
+            }
+            return "Holder";
+        }));
+        holding.await();
+
+        // when
+        RuntimeException exception = Assertions.assertThrows(RuntimeException.class, () -> {
+            failFastLockManager.executeFunctionWithLock(userId, () -> "Fail");
+        });
+        release.countDown();
+        executorService.shutdown();
+
+        // then: 실패 메세지 및 실패 횟수 검증
+        Assertions.assertEquals("지정된 락 획득 시도 시간을 초과했습니다.", exception.getMessage());
+        Assertions.assertEquals(1L, failFastLockManager.getMetrics().rejected());
+    }
+
+    @Test
+    public void TIMED_모드에서는_락이_해제될_때까지_대기_후_함수를_실행한다() throws Exception {
+        // given: 락 획득 대기 시간이 3초인 TIMED 모드의 LockManager
+        LockProperties lockProperties = new LockProperties();
+        lockProperties.setMode(LockAcquisitionMode.TIMED);
+        lockProperties.setTimeout(Duration.ofSeconds(3));
+        LockManager timedLockManager = new LockManager(lockProperties);
+        long userId = 101L;
+        CountDownLatch holding = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.submit(() -> timedLockManager.executeFunctionWithLock(userId, () -> {
+            holding.countDown();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException ignored) {
+            }
+            return "Holder";
+        }));
+        holding.await();
+
+        // when: 락 점유 중에 요청
+        String result = timedLockManager.executeFunctionWithLock(userId, () -> "Success");
+        executorService.shutdown();
+
+        // then: 실패 없이 실행되며 대기 시간이 집계됨을 검증
+        Assertions.assertEquals("Success", result);
+        Assertions.assertEquals(0L, timedLockManager.getMetrics().rejected());
+        Assertions.assertEquals(2L, timedLockManager.getMetrics().acquired());
+        Assertions.assertTrue(timedLockManager.getMetrics().maxWaitNanos() > 0);
+    }
+
+    @Test
+    public void 락_대기_보유_시간과_실패_횟수를_MeterRegistry에_기록한다() throws Exception {
+        // given: FAIL_FAST 모드의 LockManager 와 락을 점유 중인 요청
+        LockProperties lockProperties = new LockProperties();
+        lockProperties.setMode(LockAcquisitionMode.FAIL_FAST);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LockManager meteredLockManager = new LockManager(lockProperties, meterRegistry);
+        long userId = 201L;
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Future<String> holder = executorService.submit(() -> meteredLockManager.executeFunctionWithLock(userId, () -> {
+            holding.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ignored) {
+            }
+            return "Holder";
+        }));
+        holding.await();
+
+        // when: 점유 중 요청 1건 실패 후 점유 해제
+        Assertions.assertThrows(RuntimeException.class, () -> meteredLockManager.executeFunctionWithLock(userId, () -> "Fail"));
+        Assertions.assertEquals(1L, meteredLockManager.getMetrics().held());
+        release.countDown();
+        holder.get();
+        executorService.shutdown();
+
+        // then: 획득/실패 대기 시간, 보유 시간, 실패 횟수 기록 및 보유 중인 락 없음
+        Assertions.assertEquals(1L, meterRegistry.get("point.lock.wait").tag("outcome", "acquired").timer().count());
+        Assertions.assertEquals(1L, meterRegistry.get("point.lock.wait").tag("outcome", "rejected").timer().count());
+        Assertions.assertEquals(1L, meterRegistry.get("point.lock.hold").timer().count());
+        Assertions.assertEquals(1.0, meterRegistry.get("point.lock.rejected").counter().count());
+        Assertions.assertEquals(0L, meteredLockManager.getMetrics().held());
+        Assertions.assertTrue(meteredLockManager.getMetrics().maxHoldNanos() > 0);
+    }
+}
@@ -0,0 +1,58 @@
+package io.hhplus.tdd.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.locks.Lock;
+
+class LockTableTest {
+
+    @Test
+    void STRIPED_방식은_유저_수와_관계없이_고정된_개수의_락만_보관한다() {
+        // given: 1000개로 요청해 2의 거듭제곱(1024)으로 올림된 StripedLockTable
+        StripedLockTable lockTable = new StripedLockTable(1000, false);
+
+        // when: 10000명의 유저에 대한 락 조회
+        for (long userId = 1; userId <= 10000; userId++) {
+            Lock lock = lockTable.lockFor(userId);
+            lockTable.release(userId, lock);
+        }
+
+        // then: 동일 유저는 항상 같은 락을 사용하며, 보관 중인 락 개수는 고정
+        Assertions.assertSame(lockTable.lockFor(7L), lockTable.lockFor(7L));
+        Assertions.assertEquals(1024, lockTable.size());
+    }
+
+    @Test
+    void REF_COUNTED_방식은_사용이_끝난_락을_제거한다() {
+        // given
+        RefCountedLockTable lockTable = new RefCountedLockTable(false);
+        long userId = 1L;
+
+        // when: 두 요청이 같은 유저의 락을 사용 중인 상태
+        Lock first = lockTable.lockFor(userId);
+        Lock second = lockTable.lockFor(userId);
+
+        // then: 같은 락을 공유하고, 마지막 요청이 반납해야 제거됨을 검증
+        Assertions.assertSame(first, second);
+        lockTable.release(userId, first);
+        Assertions.assertEquals(1, lockTable.size());
+        lockTable.release(userId, second);
+        Assertions.assertEquals(0, lockTable.size());
+    }
+
+    @Test
+    void REF_COUNTED_방식의_LockManager는_요청_처리_후_락을_보관하지_않는다() {
+        // given
+        LockProperties lockProperties = new LockProperties();
+        lockProperties.setTable(LockTableType.REF_COUNTED);
+        LockManager lockManager = new LockManager(lockProperties);
+
+        // when
+        String result = lockManager.executeFunctionWithLock(1L, () -> "Success");
+
+        // then
+        Assertions.assertEquals("Success", result);
+        Assertions.assertEquals(0, lockManager.getLockCount());
+    }
+}
@@ -0,0 +1,67 @@
+package io.hhplus.tdd.common;
+
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import io.hhplus.tdd.infrastructure.IndexedPointHistoryRepository;
+import io.hhplus.tdd.infrastructure.UserPointRepositoryImplement;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+class PointCommandDispatcherTest {
+
+    @Test
+    void 가상_스레드_설정_시_mailbox_worker_가_가상_스레드에서_명령을_처리한다() {
+        // given: 가상 스레드 worker 를 사용하는 dispatcher, 명령을 처리한 스레드를 기록하는 PointManager
+        PointExecutionProperties executionProperties = new PointExecutionProperties();
+        executionProperties.setVirtualThreads(true);
+        executionProperties.setWorkers(4);
+        Set<Thread> workerThreads = ConcurrentHashMap.newKeySet();
+        PointManager pointManager = new PointManager(new UserPointRepositoryImplement(), new IndexedPointHistoryRepository()) {
+            @Override
+            public UserPoint chargePoints(long userId, long amountToCharge) {
+                workerThreads.add(Thread.currentThread());
+                return super.chargePoints(userId, amountToCharge);
+            }
+
+            @Override
+            public UserPoint usePoints(long userId, long amountToUse) {
+                workerThreads.add(Thread.currentThread());
+                return super.usePoints(userId, amountToUse);
+            }
+        };
+        PointCommandDispatcher pointCommandDispatcher = new PointCommandDispatcher(pointManager, executionProperties);
+
+        try {
+            // when: 유저 10명에게 충전 3회, 사용 1회씩 적재
+            List<CompletableFuture<UserPoint>> results = new ArrayList<>();
+            for (long userId = 1; userId <= 10; userId++) {
+                results.add(pointCommandDispatcher.submit(userId, TransactionType.CHARGE, 1000L));
+                results.add(pointCommandDispatcher.submit(userId, TransactionType.CHARGE, 2000L));
+                results.add(pointCommandDispatcher.submit(userId, TransactionType.USE, 500L));
+                results.add(pointCommandDispatcher.submit(userId, TransactionType.CHARGE, 3000L));
+            }
+            CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).join();
+
+            // then: 모든 명령이 point-worker 가상 스레드에서 적재 순서대로 처리되었음을 검증
+            Assertions.assertFalse(workerThreads.isEmpty());
+            for (Thread workerThread : workerThreads) {
+                Assertions.assertTrue(workerThread.isVirtual());
+                Assertions.assertTrue(workerThread.getName().startsWith("point-worker-"));
+            }
+            for (int i = 0; i < results.size(); i += 4) {
+                Assertions.assertEquals(1000L, results.get(i).join().points());
+                Assertions.assertEquals(3000L, results.get(i + 1).join().points());
+                Assertions.assertEquals(2500L, results.get(i + 2).join().points());
+                Assertions.assertEquals(5500L, results.get(i + 3).join().points());
+            }
+        } finally {
+            pointCommandDispatcher.shutdown();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.hhplus.tdd.common;
+
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Iterator;
+import java.util.List;
+
+class PointHistoryTableTest {
+
+    @Test
+    void 순회는_내역_목록을_만들지_않고_유저의_내역만_저장_순서대로_반환한다() {
+        // given: 100만 건 중 1번 유저 내역 50만 건
+        PointHistoryTable pointHistoryTable = new PointHistoryTable(LatencyModel.OFF);
+        for (int i = 0; i < 1_000_000; i++) {
+            pointHistoryTable.insert(i % 2 == 0 ? 1L : 2L, i, TransactionType.CHARGE, i);
+        }
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        // 첫 호출의 클래스 로딩/lambda 생성 할당을 제외하기 위해 내역이 없는 유저로 한 번 순회
+        pointHistoryTable.iterateByUserId(3L).hasNext();
+
+        // when: 목록 조회와 순회의 할당량 비교
+        long beforeSelect = threadMXBean.getThreadAllocatedBytes(threadId);
+        List<PointHistory> selected = pointHistoryTable.selectAllByUserId(1L).get();
+        long selectBytes = threadMXBean.getThreadAllocatedBytes(threadId) - beforeSelect;
+
+        long beforeIterate = threadMXBean.getThreadAllocatedBytes(threadId);
+        Iterator<PointHistory> iterator = pointHistoryTable.iterateByUserId(1L);
+        long count = 0;
+        long previousId = 0;
+        while (iterator.hasNext()) {
+            PointHistory pointHistory = iterator.next();
+            Assertions.assertEquals(1L, pointHistory.userId());
+            Assertions.assertTrue(pointHistory.id() > previousId);
+            previousId = pointHistory.id();
+            count++;
+        }
+        long iterateBytes = threadMXBean.getThreadAllocatedBytes(threadId) - beforeIterate;
+
+        // then: 같은 내역을 반환하며, 목록 조회는 50만 건의 참조만으로 2MB 이상 할당하지만 순회는 내역 수와 관계없는 고정 크기만 할당
+        Assertions.assertEquals(selected.size(), count);
+        Assertions.assertTrue(selectBytes > 2_000_000, "목록 조회 할당량: " + selectBytes);
+        Assertions.assertTrue(iterateBytes < 256 * 1024, "순회 할당량: " + iterateBytes);
+    }
+
+    @Test
+    void 순회_중에_저장된_내역은_포함하지_않는다() {
+        // given
+        PointHistoryTable pointHistoryTable = new PointHistoryTable(LatencyModel.OFF);
+        pointHistoryTable.insert(1L, 100L, TransactionType.CHARGE, 1L);
+        Iterator<PointHistory> iterator = pointHistoryTable.iterateByUserId(1L);
+
+        // when
+        pointHistoryTable.insert(1L, 200L, TransactionType.CHARGE, 2L);
+
+        // then
+        Assertions.assertEquals(100L, iterator.next().amount());
+        Assertions.assertFalse(iterator.hasNext());
+    }
+}
@@ -3,13 +3,20 @@ package io.hhplus.tdd.common;
 import io.hhplus.tdd.domain.point.model.PointHistory;
 import io.hhplus.tdd.domain.point.model.TransactionType;
 import io.hhplus.tdd.domain.point.model.UserPoint;
+import io.hhplus.tdd.infrastructure.IndexedPointHistoryRepository;
+import io.hhplus.tdd.infrastructure.LockFreeUserPointRepository;
+import io.hhplus.tdd.persistence.PointJournal;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @SpringBootTest
 class PointManagerTest {
@@ -236,4 +243,60 @@ class PointManagerTest {
         // RuntimeException이 발생하고 예외 메세지가 예상한 바와 같음을 검증
         Assertions.assertEquals("아이디가 유효하지 않습니다.", exception.getMessage());
     }
+
+    /**
+     * 포인트 충전/사용 일괄 반영 테스트
+     */
+    @Test
+    void 일괄_반영_시_명령을_순서대로_검증하고_잔고를_초과하는_사용만_실패한다() {
+        // given: 충전 1000, 사용 5000(잔고 초과), 사용 300, 충전 200 명령
+        long id = 301L;
+        List<PointCommand> commands = List.of(
+                new PointCommand(id, TransactionType.CHARGE, 1000L),
+                new PointCommand(id, TransactionType.USE, 5000L),
+                new PointCommand(id, TransactionType.USE, 300L),
+                new PointCommand(id, TransactionType.CHARGE, 200L)
+        );
+
+        // when
+        pointManager.applyBatch(id, commands);
+
+        // then: 명령별 결과, 최종 잔고 및 실패한 명령을 제외한 내역 검증
+        Assertions.assertEquals(1000L, commands.get(0).result().join().points());
+        CompletionException exception = Assertions.assertThrows(CompletionException.class, () -> commands.get(1).result().join());
+        Assertions.assertEquals("잔고가 부족합니다.", exception.getCause().getMessage());
+        Assertions.assertEquals(700L, commands.get(2).result().join().points());
+        Assertions.assertEquals(900L, commands.get(3).result().join().points());
+        Assertions.assertEquals(900L, pointManager.findPoints(id).get().points());
+        Assertions.assertEquals(3, pointManager.findHistory(id).get().size());
+    }
+
+    /**
+     * 변경 기록 실패 테스트
+     */
+    @Test
+    void 변경_기록에_실패하면_잔고와_내역이_바뀌지_않는다() {
+        // given: 기록을 한 건만 남기고 이후로는 실패하는 journal
+        long id = 401L;
+        AtomicBoolean failing = new AtomicBoolean();
+        PointJournal journal = entry -> failing.get()
+                ? CompletableFuture.failedFuture(new IOException("disk full"))
+                : CompletableFuture.completedFuture(null);
+        PointManager manager = new PointManager(new LockFreeUserPointRepository(1024), new IndexedPointHistoryRepository(), journal);
+        manager.chargePoints(id, 1000L);
+        failing.set(true);
+
+        // when: 충전, 사용, 일괄 반영 모두 기록 실패
+        RuntimeException chargeFailure = Assertions.assertThrows(RuntimeException.class, () -> manager.chargePoints(id, 500L));
+        RuntimeException useFailure = Assertions.assertThrows(RuntimeException.class, () -> manager.usePoints(id, 300L));
+        List<PointCommand> commands = List.of(new PointCommand(id, TransactionType.CHARGE, 200L));
+        manager.applyBatch(id, commands);
+
+        // then: 실패가 응답되고 잔고와 내역은 첫 충전 상태 그대로임을 검증
+        Assertions.assertEquals("변경 내역 기록에 실패했습니다.", chargeFailure.getMessage());
+        Assertions.assertEquals("변경 내역 기록에 실패했습니다.", useFailure.getMessage());
+        Assertions.assertThrows(CompletionException.class, () -> commands.get(0).result().join());
+        Assertions.assertEquals(1000L, manager.findPoints(id).get().points());
+        Assertions.assertEquals(1, manager.findHistory(id).get().size());
+    }
 }
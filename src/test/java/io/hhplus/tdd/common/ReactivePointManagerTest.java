@@ -0,0 +1,132 @@
+package io.hhplus.tdd.common;
+
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import io.hhplus.tdd.infrastructure.IndexedPointHistoryRepository;
+import io.hhplus.tdd.infrastructure.LockFreeUserPointRepository;
+import io.hhplus.tdd.infrastructure.ReactivePointHistoryRepositoryAdapter;
+import io.hhplus.tdd.infrastructure.ReactiveUserPointRepositoryAdapter;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.persistence.PointJournal;
+import io.hhplus.tdd.persistence.PointJournalEntry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+class ReactivePointManagerTest {
+
+    private final ReactivePointManager pointManager = new ReactivePointManager(
+            new ReactiveUserPointRepositoryAdapter(new LockFreeUserPointRepository(1024), Schedulers.immediate()),
+            new ReactivePointHistoryRepositoryAdapter(new IndexedPointHistoryRepository(), Schedulers.boundedElastic()));
+
+    @Test
+    void 충전과_사용_결과가_잔고와_내역에_반영된다() {
+        // given
+        long id = 1L;
+
+        // when
+        pointManager.chargePoints(id, 10000L).block();
+        UserPoint userPoint = pointManager.usePoints(id, 3000L).block();
+        List<PointHistory> histories = pointManager.findHistory(id).collectList().block();
+
+        // then
+        Assertions.assertEquals(7000L, userPoint.points());
+        Assertions.assertEquals(7000L, pointManager.findPoints(id).block().points());
+        Assertions.assertEquals(2, histories.size());
+    }
+
+    @Test
+    void 잔고가_부족하거나_유저_정보가_없으면_사용에_실패한다() {
+        // given
+        long id = 2L;
+        pointManager.chargePoints(id, 1000L).block();
+
+        // when & then: 실패 원인에 맞는 예외 메시지 검증
+        RuntimeException insufficient = Assertions.assertThrows(RuntimeException.class, () -> pointManager.usePoints(id, 5000L).block());
+        RuntimeException notFound = Assertions.assertThrows(RuntimeException.class, () -> pointManager.usePoints(3L, 1000L).block());
+        Assertions.assertEquals("잔고가 부족합니다.", insufficient.getMessage());
+        Assertions.assertEquals("3번 유저의 정보가 없습니다.", notFound.getMessage());
+        Assertions.assertEquals(1000L, pointManager.findPoints(id).block().points());
+    }
+
+    @Test
+    void 유효하지_않은_아이디는_구독_시_실패한다() {
+        RuntimeException exception = Assertions.assertThrows(RuntimeException.class, () -> pointManager.chargePoints(0L, 1000L).block());
+        Assertions.assertEquals("아이디가 유효하지 않습니다.", exception.getMessage());
+    }
+
+    @Test
+    void LOCK_모드에서는_같은_유저의_앞선_충전이_끝난_뒤에_다음_충전을_반영한다() throws Exception {
+        // given: 기록 완료를 직접 제어하는 journal 과 LOCK 모드(기본값)의 manager
+        long id = 4L;
+        ConcurrentLinkedQueue<CompletableFuture<Void>> pendingJournals = new ConcurrentLinkedQueue<>();
+        PointJournal journal = entry -> {
+            CompletableFuture<Void> journaled = new CompletableFuture<>();
+            pendingJournals.add(journaled);
+            return journaled;
+        };
+        LockFreeUserPointRepository userPointRepository = new LockFreeUserPointRepository(1024);
+        ReactivePointManager lockModeManager = new ReactivePointManager(
+                new ReactiveUserPointRepositoryAdapter(userPointRepository, Schedulers.immediate()),
+                new ReactivePointHistoryRepositoryAdapter(new IndexedPointHistoryRepository(), Schedulers.immediate()),
+                journal, new PointExecutionProperties());
+
+        // when: 첫 충전의 기록이 끝나기 전에 두 번째 충전을 구독
+        CompletableFuture<UserPoint> first = lockModeManager.chargePoints(id, 1000L).toFuture();
+        CompletableFuture<UserPoint> second = lockModeManager.chargePoints(id, 500L).toFuture();
+
+        // then: 두 번째 충전은 첫 충전이 끝날 때까지 잔고에 반영되지 않음
+        Assertions.assertEquals(1, pendingJournals.size());
+        Assertions.assertEquals(1000L, userPointRepository.selectById(id).get().points());
+        Assertions.assertFalse(second.isDone());
+
+        pendingJournals.poll().complete(null);
+        Assertions.assertEquals(1000L, first.get(1, TimeUnit.SECONDS).points());
+        Assertions.assertEquals(1, pendingJournals.size());
+        pendingJournals.poll().complete(null);
+        Assertions.assertEquals(1500L, second.get(1, TimeUnit.SECONDS).points());
+    }
+
+    @Test
+    void ATOMIC_모드에서_기록에_실패한_충전액은_동시에_요청된_사용에_쓰이지_않는다() throws Exception {
+        // given: 1000 충전의 기록만 완료를 직접 제어하는 journal 과 ATOMIC 모드의 manager, 잔고 100
+        long id = 6L;
+        CompletableFuture<Void> chargeJournal = new CompletableFuture<>();
+        ConcurrentLinkedQueue<PointJournalEntry> journaled = new ConcurrentLinkedQueue<>();
+        PointJournal journal = entry -> {
+            if ( entry.type() == TransactionType.CHARGE && entry.amount() == 1000L ) {
+                return chargeJournal;
+            }
+            journaled.add(entry);
+            return CompletableFuture.completedFuture(null);
+        };
+        PointExecutionProperties executionProperties = new PointExecutionProperties();
+        executionProperties.setMode(PointExecutionMode.ATOMIC);
+        ReactivePointManager atomicModeManager = new ReactivePointManager(
+                new ReactiveUserPointRepositoryAdapter(new LockFreeUserPointRepository(1024), Schedulers.immediate()),
+                new ReactivePointHistoryRepositoryAdapter(new IndexedPointHistoryRepository(), Schedulers.immediate()),
+                journal, executionProperties);
+        atomicModeManager.chargePoints(id, 100L).block();
+
+        // when: 1000 충전의 기록을 기다리는 동안 1000 사용을 구독한 뒤 기록 실패
+        CompletableFuture<UserPoint> charge = atomicModeManager.chargePoints(id, 1000L).toFuture();
+        CompletableFuture<UserPoint> use = atomicModeManager.usePoints(id, 1000L).toFuture();
+        chargeJournal.completeExceptionally(new IOException("disk full"));
+
+        // then: 충전은 기록 실패로, 사용은 잔고 부족으로 실패하고 잔고는 음수가 되지 않음
+        ExecutionException chargeFailure = Assertions.assertThrows(ExecutionException.class, () -> charge.get(1, TimeUnit.SECONDS));
+        ExecutionException useFailure = Assertions.assertThrows(ExecutionException.class, () -> use.get(1, TimeUnit.SECONDS));
+        Assertions.assertEquals("변경 내역 기록에 실패했습니다.", chargeFailure.getCause().getMessage());
+        Assertions.assertEquals("잔고가 부족합니다.", useFailure.getCause().getMessage());
+        Assertions.assertEquals(100L, atomicModeManager.findPoints(id).block().points());
+        // 기록에는 성공한 첫 충전만 남음
+        Assertions.assertEquals(List.of(TransactionType.CHARGE), journaled.stream().map(PointJournalEntry::type).toList());
+    }
+}
@@ -0,0 +1,104 @@
+package io.hhplus.tdd.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+class StripedChargeBalancesTest {
+
+    @Test
+    void 충전_중에_반영해도_충전액이_유실되지_않는다() throws Exception {
+        // given
+        StripedBalanceProperties properties = new StripedBalanceProperties();
+        properties.setUserIds(Set.of(1L));
+        StripedChargeBalances stripedChargeBalances = new StripedChargeBalances(properties);
+        AtomicLong folded = new AtomicLong();
+
+        // when: 8개 스레드가 1원씩 10000번 충전하는 동안 반복해서 반영
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            tasks.add(executorService.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    stripedChargeBalances.add(1L, 1L);
+                }
+            }));
+        }
+        while (tasks.stream().anyMatch(task -> !task.isDone())) {
+            stripedChargeBalances.fold(1L, folded::addAndGet);
+        }
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+        executorService.shutdown();
+        stripedChargeBalances.fold(1L, folded::addAndGet);
+
+        // then
+        Assertions.assertEquals(80_000L, folded.get());
+        Assertions.assertEquals(0L, stripedChargeBalances.pending(1L));
+    }
+
+    @Test
+    void 반영_중에도_잔고와_반영_전_충전액의_합은_빠지거나_중복되지_않는다() throws Exception {
+        // given: 잔고 역할의 카운터
+        StripedBalanceProperties properties = new StripedBalanceProperties();
+        properties.setUserIds(Set.of(1L));
+        StripedChargeBalances stripedChargeBalances = new StripedChargeBalances(properties);
+        AtomicLong stored = new AtomicLong();
+        AtomicLong charged = new AtomicLong();
+        AtomicBoolean done = new AtomicBoolean();
+
+        // when: 100원씩 2번 충전하고 (느리게) 반영하기를 반복하는 동안 다른 스레드가 계속 합계를 조회
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Future<List<String>> reads = executorService.submit(() -> {
+            List<String> violations = new ArrayList<>();
+            while (!done.get()) {
+                long floor = charged.get();
+                long total = stripedChargeBalances.withPending(1L, pending -> stored.get() + pending);
+                long ceiling = charged.get();
+                // 조회 전까지 충전된 금액 이상이고, 조회 후 충전된 금액보다 아직 집계되지 않은 충전 1건(100원)을 넘게 더 보이지 않아야 함
+                if ( total < floor || total > ceiling + 100 ) {
+                    violations.add(floor + " <= " + total + " <= " + ceiling + " + 100");
+                }
+            }
+            return violations;
+        });
+        for (int i = 0; i < 200; i++) {
+            for (int charge = 0; charge < 2; charge++) {
+                stripedChargeBalances.add(1L, 100L);
+                charged.addAndGet(100L);
+            }
+            stripedChargeBalances.fold(1L, pending -> {
+                Thread.yield();
+                stored.addAndGet(pending);
+            });
+        }
+        done.set(true);
+        List<String> violations = reads.get();
+        executorService.shutdown();
+
+        // then
+        Assertions.assertEquals(40_000L, stored.get());
+        Assertions.assertTrue(violations.isEmpty(), "반영 중 조회된 합계가 충전액과 다름: " + violations);
+    }
+
+    @Test
+    void 설정되지_않은_유저는_sub_counter를_사용하지_않는다() {
+        // given
+        StripedChargeBalances stripedChargeBalances = StripedChargeBalances.NONE;
+
+        // when & then
+        Assertions.assertFalse(stripedChargeBalances.covers(1L));
+        Assertions.assertEquals(0L, stripedChargeBalances.pending(1L));
+        Assertions.assertEquals(0L, stripedChargeBalances.fold(1L, pending -> Assertions.fail("반영할 충전액이 없어야 함")));
+        Assertions.assertEquals(7L, (long) stripedChargeBalances.withPending(1L, pending -> 7L + pending));
+    }
+}
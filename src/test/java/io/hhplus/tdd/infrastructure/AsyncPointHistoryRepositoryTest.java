@@ -0,0 +1,82 @@
+package io.hhplus.tdd.infrastructure;
+
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class AsyncPointHistoryRepositoryTest {
+
+    @Test
+    void 적재한_내역은_조회_시점에_순서대로_기록되어_있다() {
+        // given: 큐 크기보다 많은 내역을 적재 (큐가 가득 차면 insert 대기)
+        IndexedPointHistoryRepository delegate = new IndexedPointHistoryRepository();
+        AsyncPointHistoryRepository repository = new AsyncPointHistoryRepository(delegate, 16, 4);
+        for (long amount = 1; amount <= 100; amount++) {
+            repository.insert(1L, amount, TransactionType.CHARGE, amount);
+        }
+
+        // when
+        List<PointHistory> histories = repository.selectAllByUserId(1L).get();
+        repository.close();
+
+        // then: 적재 순서대로 모두 기록되었음을 검증
+        Assertions.assertEquals(100, histories.size());
+        for (int i = 0; i < histories.size(); i++) {
+            Assertions.assertEquals(i + 1L, histories.get(i).amount());
+        }
+    }
+
+    @Test
+    void 동시에_적재해도_각자_방금_추가한_내역이_조회된다() throws Exception {
+        // given: 16명의 유저가 동시에 내역을 추가하고 바로 조회
+        IndexedPointHistoryRepository delegate = new IndexedPointHistoryRepository();
+        AsyncPointHistoryRepository repository = new AsyncPointHistoryRepository(delegate, 64, 1);
+        int users = 16;
+        int rowsPerUser = 500;
+        ExecutorService executorService = Executors.newFixedThreadPool(users);
+        List<Future<?>> tasks = new ArrayList<>();
+
+        // when
+        for (long userId = 1; userId <= users; userId++) {
+            long id = userId;
+            tasks.add(executorService.submit(() -> {
+                for (int i = 1; i <= rowsPerUser; i++) {
+                    repository.insert(id, i, TransactionType.CHARGE, i);
+                    // then: 조회 시점에는 방금 추가한 내역까지 기록되어 있음을 검증
+                    Assertions.assertEquals(i, repository.selectAllByUserId(id).get().size());
+                }
+            }));
+        }
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+        executorService.shutdown();
+        repository.close();
+    }
+
+    @Test
+    void 종료_시_남은_내역을_모두_기록한다() {
+        // given
+        IndexedPointHistoryRepository delegate = new IndexedPointHistoryRepository();
+        AsyncPointHistoryRepository repository = new AsyncPointHistoryRepository(delegate, 1000, 8);
+        for (long amount = 1; amount <= 500; amount++) {
+            repository.insert(2L, amount, TransactionType.USE, amount);
+        }
+
+        // when
+        repository.close();
+
+        // then: 원본 저장소에 모두 기록되고, 종료 후 추가한 내역은 바로 기록됨을 검증
+        Assertions.assertEquals(0, repository.pendingCount());
+        Assertions.assertEquals(500, delegate.selectAllByUserId(2L).get().size());
+        repository.insert(2L, 501L, TransactionType.USE, 501L);
+        Assertions.assertEquals(501, delegate.selectAllByUserId(2L).get().size());
+    }
+}
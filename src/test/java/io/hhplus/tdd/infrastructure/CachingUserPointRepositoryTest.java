@@ -0,0 +1,158 @@
+package io.hhplus.tdd.infrastructure;
+
+import io.hhplus.tdd.common.UserIdHash;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class CachingUserPointRepositoryTest {
+
+    @Test
+    void 저장한_결과는_원본_저장소를_거치지_않고_조회된다() {
+        // given: 조회로 캐시된 유저
+        LockFreeUserPointRepository delegate = new LockFreeUserPointRepository(1024);
+        CachingUserPointRepository repository = new CachingUserPointRepository(delegate, 16, CacheEvictionPolicy.LRU);
+        repository.addAndGet(1L, 1000L);
+        repository.selectById(1L);
+
+        // when: 충전 후 조회
+        UserPoint charged = repository.addAndGet(1L, 500L);
+        UserPoint found = repository.selectById(1L).get();
+
+        // then: 충전 결과가 캐시되어 두 조회 모두 hit
+        Assertions.assertEquals(charged, found);
+        Assertions.assertEquals(1500L, found.points());
+        Assertions.assertEquals(0L, repository.stats().misses());
+        Assertions.assertEquals(2L, repository.stats().hits());
+    }
+
+    @Test
+    void 조회하는_사이_저장된_유저는_조회한_값을_캐시하지_않는다() {
+        // given: 원본 저장소 조회가 끝난 직후 같은 유저의 충전이 끼어드는 저장소
+        AtomicBoolean interleaved = new AtomicBoolean();
+        CachingUserPointRepository[] repository = new CachingUserPointRepository[1];
+        LockFreeUserPointRepository delegate = new LockFreeUserPointRepository(1024) {
+            @Override
+            public Optional<UserPoint> selectById(long id) {
+                Optional<UserPoint> found = super.selectById(id);
+                if ( interleaved.compareAndSet(false, true) ) {
+                    repository[0].addAndGet(id, 500L);
+                }
+                return found;
+            }
+        };
+        delegate.insertOrUpdate(1L, 1000L);
+        repository[0] = new CachingUserPointRepository(delegate, 16, CacheEvictionPolicy.LFU);
+
+        // when
+        UserPoint stale = repository[0].selectById(1L).get();
+        UserPoint found = repository[0].selectById(1L).get();
+
+        // then: 먼저 조회한 이전 값이 충전 결과를 덮어쓰지 않아 다음 조회는 캐시된 최신 값을 반환
+        Assertions.assertEquals(1000L, stale.points());
+        Assertions.assertEquals(1500L, found.points());
+        Assertions.assertEquals(1L, repository[0].stats().hits());
+    }
+
+    @Test
+    void 같은_유저의_저장이_겹치면_결과를_캐시하지_않고_원본_저장소에서_다시_조회한다() {
+        // given: 첫 충전이 원본 저장소에 반영되기 전에 같은 유저의 충전이 끼어드는 저장소 (ATOMIC 모드의 동시 충전)
+        AtomicBoolean interleaved = new AtomicBoolean();
+        CachingUserPointRepository[] repository = new CachingUserPointRepository[1];
+        LockFreeUserPointRepository delegate = new LockFreeUserPointRepository(1024) {
+            @Override
+            public UserPoint addAndGet(long id, long amount) {
+                if ( interleaved.compareAndSet(false, true) ) {
+                    repository[0].addAndGet(id, 500L);
+                }
+                return super.addAndGet(id, amount);
+            }
+        };
+        repository[0] = new CachingUserPointRepository(delegate, 16, CacheEvictionPolicy.LRU);
+
+        // when
+        repository[0].addAndGet(1L, 1000L);
+        UserPoint found = repository[0].selectById(1L).get();
+
+        // then: 어느 결과가 마지막인지 알 수 없으므로 조회는 원본 저장소를 거쳐 두 충전이 모두 반영된 값을 반환
+        Assertions.assertEquals(1500L, found.points());
+        Assertions.assertEquals(1L, repository[0].stats().misses());
+        Assertions.assertEquals(0L, repository[0].stats().hits());
+    }
+
+    @Test
+    void 캐시에_없는_유저는_원본_저장소에서_조회_후_캐시한다() {
+        // given: 원본 저장소에만 저장된 유저
+        LockFreeUserPointRepository delegate = new LockFreeUserPointRepository(1024);
+        delegate.insertOrUpdate(1L, 500L);
+        CachingUserPointRepository repository = new CachingUserPointRepository(delegate, 16, CacheEvictionPolicy.LFU);
+
+        // when: 두 번 조회
+        repository.selectById(1L);
+        UserPoint found = repository.selectById(1L).get();
+
+        // then: 첫 조회는 miss, 두 번째 조회는 hit
+        Assertions.assertEquals(500L, found.points());
+        Assertions.assertEquals(1L, repository.stats().misses());
+        Assertions.assertEquals(1L, repository.stats().hits());
+    }
+
+    @Test
+    void 최대_크기를_넘으면_항목을_제거한다() {
+        // given: segment 당 1개씩, 최대 16개까지 보관하는 캐시
+        LockFreeUserPointRepository delegate = new LockFreeUserPointRepository(1024);
+        CachingUserPointRepository repository = new CachingUserPointRepository(delegate, 16, CacheEvictionPolicy.LRU);
+
+        // when: 100명의 유저 충전 후 조회
+        for (long id = 1; id <= 100; id++) {
+            repository.addAndGet(id, id);
+            repository.selectById(id);
+        }
+
+        // then: 최대 크기를 넘지 않으며 제거된 항목도 원본 저장소에서 조회 가능
+        CachingUserPointRepository.CacheStats stats = repository.stats();
+        Assertions.assertTrue(stats.size() <= 16);
+        Assertions.assertEquals(100L - stats.size(), stats.evictions());
+        for (long id = 1; id <= 100; id++) {
+            Assertions.assertEquals(id, repository.selectById(id).get().points());
+        }
+    }
+
+    @Test
+    void LFU_정책은_가장_적게_사용된_항목부터_제거한다() {
+        // given: segment 당 2개씩 보관하는 캐시와 같은 segment 에 속하는 세 유저
+        LockFreeUserPointRepository delegate = new LockFreeUserPointRepository(1024);
+        CachingUserPointRepository repository = new CachingUserPointRepository(delegate, 32, CacheEvictionPolicy.LFU);
+        long[] sameSegmentIds = sameSegmentIds(3);
+        delegate.insertOrUpdate(sameSegmentIds[0], 100L);
+        delegate.insertOrUpdate(sameSegmentIds[1], 200L);
+        delegate.insertOrUpdate(sameSegmentIds[2], 300L);
+        repository.selectById(sameSegmentIds[0]);
+        repository.selectById(sameSegmentIds[1]);
+        repository.selectById(sameSegmentIds[0]);
+
+        // when: 같은 segment 에 세 번째 유저 캐시
+        repository.selectById(sameSegmentIds[2]);
+        long missesBefore = repository.stats().misses();
+        repository.selectById(sameSegmentIds[0]);
+        repository.selectById(sameSegmentIds[1]);
+
+        // then: 가장 적게 사용된 두 번째 유저만 제거되어 miss 발생
+        Assertions.assertEquals(missesBefore + 1, repository.stats().misses());
+    }
+
+    private long[] sameSegmentIds(int count) {
+        long[] ids = new long[count];
+        int segment = UserIdHash.spread(1L) & 15;
+        int found = 0;
+        for (long id = 1; found < count; id++) {
+            if ( (UserIdHash.spread(id) & 15) == segment ) {
+                ids[found++] = id;
+            }
+        }
+        return ids;
+    }
+}
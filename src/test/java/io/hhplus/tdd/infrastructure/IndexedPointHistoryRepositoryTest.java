@@ -0,0 +1,141 @@
+package io.hhplus.tdd.infrastructure;
+
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class IndexedPointHistoryRepositoryTest {
+
+    private final IndexedPointHistoryRepository repository = new IndexedPointHistoryRepository();
+
+    @Test
+    void 유저별_내역은_입력_순서대로_조회된다() {
+        // given: chunk 크기를 넘는 100건의 내역
+        long userId = 1L;
+        for (long amount = 1; amount <= 100; amount++) {
+            repository.insert(userId, amount, amount % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE, amount);
+        }
+        repository.insert(2L, 999L, TransactionType.CHARGE, 0L);
+
+        // when
+        List<PointHistory> histories = repository.selectAllByUserId(userId).get();
+
+        // then: 다른 유저의 내역은 포함되지 않으며 입력 순서와 값이 유지됨을 검증
+        Assertions.assertEquals(100, histories.size());
+        for (int i = 0; i < histories.size(); i++) {
+            PointHistory history = histories.get(i);
+            Assertions.assertEquals(userId, history.userId());
+            Assertions.assertEquals(i + 1L, history.amount());
+            Assertions.assertEquals(i % 2 == 1 ? TransactionType.USE : TransactionType.CHARGE, history.type());
+        }
+    }
+
+    @Test
+    void 커서와_시간_범위로_내역을_페이지_단위_조회한다() {
+        // given: updateMillis 가 1~100 인 100건의 내역
+        long userId = 1L;
+        for (long amount = 1; amount <= 100; amount++) {
+            repository.insert(userId, amount, TransactionType.CHARGE, amount);
+        }
+        List<PointHistory> firstPage = repository.selectPageByUserId(userId, new PointHistoryQuery(0L, 10, 41L, 60L));
+
+        // when: 첫 페이지의 마지막 id 를 커서로 다음 페이지 조회
+        long cursor = firstPage.get(firstPage.size() - 1).id();
+        List<PointHistory> secondPage = repository.selectPageByUserId(userId, new PointHistoryQuery(cursor, 10, 41L, 60L));
+        List<PointHistory> lastPage = repository.selectPageByUserId(userId, new PointHistoryQuery(secondPage.get(9).id(), 10, 41L, 60L));
+
+        // then: 범위 내 20건이 10건씩 순서대로 조회되고 이후 페이지는 비어있음을 검증
+        Assertions.assertEquals(10, firstPage.size());
+        Assertions.assertEquals(41L, firstPage.get(0).updateMillis());
+        Assertions.assertEquals(10, secondPage.size());
+        Assertions.assertEquals(51L, secondPage.get(0).updateMillis());
+        Assertions.assertEquals(60L, secondPage.get(9).updateMillis());
+        Assertions.assertTrue(lastPage.isEmpty());
+    }
+
+    @Test
+    void 순회는_시작_시점까지_추가된_내역만_순서대로_반환한다() {
+        // given
+        long userId = 1L;
+        for (long amount = 1; amount <= 50; amount++) {
+            repository.insert(userId, amount, TransactionType.CHARGE, amount);
+        }
+        Iterator<PointHistory> iterator = repository.iterateByUserId(userId);
+
+        // when: 순회 도중 내역 추가
+        repository.insert(userId, 51L, TransactionType.CHARGE, 51L);
+        long expected = 1L;
+        while (iterator.hasNext()) {
+            Assertions.assertEquals(expected++, iterator.next().amount());
+        }
+
+        // then
+        Assertions.assertEquals(51L, expected);
+        Assertions.assertFalse(repository.iterateByUserId(2L).hasNext());
+    }
+
+    @Test
+    void 시간_순서가_어긋난_내역이_있어도_시간_범위의_내역을_모두_조회한다() {
+        // given: updateMillis 가 1~300 인 내역
+        long userId = 1L;
+        for (long amount = 1; amount <= 300; amount++) {
+            repository.insert(userId, amount, TransactionType.CHARGE, amount);
+        }
+        List<PointHistory> ordered = repository.selectPageByUserId(userId, new PointHistoryQuery(0L, 50, 201L, 205L));
+
+        // when: 앞선 시각의 내역이 늦게 추가된 뒤 조회
+        repository.insert(userId, 301L, TransactionType.USE, 3L);
+        List<PointHistory> unordered = repository.selectPageByUserId(userId, new PointHistoryQuery(0L, 50, 1L, 5L));
+
+        // then: 범위 안의 내역만 id 순서대로 조회되고, 늦게 추가된 내역도 포함됨을 검증
+        Assertions.assertEquals(List.of(201L, 202L, 203L, 204L, 205L), ordered.stream().map(PointHistory::updateMillis).toList());
+        Assertions.assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 301L), unordered.stream().map(PointHistory::amount).toList());
+        Assertions.assertEquals(3L, unordered.get(5).updateMillis());
+    }
+
+    @Test
+    void 내역이_없는_유저는_빈_결과를_반환한다() {
+        Assertions.assertTrue(repository.selectAllByUserId(3L).isEmpty());
+    }
+
+    @Test
+    void 동시에_내역을_추가해도_id가_중복되지_않는다() throws Exception {
+        // given: 8명의 유저가 각각 1000건의 내역을 동시에 추가
+        int users = 8;
+        int rowsPerUser = 1000;
+        ExecutorService executorService = Executors.newFixedThreadPool(users);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (long userId = 1; userId <= users; userId++) {
+            long id = userId;
+            tasks.add(executorService.submit(() -> {
+                for (int i = 0; i < rowsPerUser; i++) {
+                    repository.insert(id, i, TransactionType.CHARGE, i);
+                }
+            }));
+        }
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+        executorService.shutdown();
+
+        // then: 전체 id 가 유일하고 유저별 건수가 일치함을 검증
+        Set<Long> ids = new HashSet<>();
+        for (long userId = 1; userId <= users; userId++) {
+            List<PointHistory> histories = repository.selectAllByUserId(userId).get();
+            Assertions.assertEquals(rowsPerUser, histories.size());
+            histories.forEach(history -> ids.add(history.id()));
+        }
+        Assertions.assertEquals(users * rowsPerUser, ids.size());
+    }
+}
@@ -0,0 +1,127 @@
+package io.hhplus.tdd.infrastructure;
+
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class LockFreeUserPointRepositoryTest {
+
+    private final LockFreeUserPointRepository repository = new LockFreeUserPointRepository(1024);
+
+    @Test
+    void 저장한_포인트를_조회한다() {
+        // given
+        long id = 1L;
+
+        // when
+        UserPoint saved = repository.insertOrUpdate(id, 1000L);
+        UserPoint found = repository.selectById(id).get();
+
+        // then
+        Assertions.assertEquals(saved, found);
+        Assertions.assertTrue(repository.selectById(2L).isEmpty());
+    }
+
+    @Test
+    void 현재_포인트가_기대값과_다르면_갱신하지_않는다() {
+        // given: 포인트 1000 저장
+        long id = 1L;
+        repository.insertOrUpdate(id, 1000L);
+
+        // when & then: 기대값이 다르거나 유저 정보가 없으면 실패, 기대값이 같으면 갱신됨을 검증
+        Assertions.assertFalse(repository.compareAndSet(id, 500L, 700L));
+        Assertions.assertFalse(repository.compareAndSet(2L, 0L, 700L));
+        Assertions.assertTrue(repository.compareAndSet(id, 1000L, 700L));
+        Assertions.assertEquals(700L, repository.selectById(id).get().points());
+    }
+
+    @Test
+    void 동시에_compareAndSet으로_증가시켜도_갱신이_유실되지_않는다() throws Exception {
+        // given: 8개 스레드가 같은 유저의 포인트를 각각 10000번 1씩 증가
+        long id = 1L;
+        int threads = 8;
+        int increments = 10000;
+        repository.insertOrUpdate(id, 0L);
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            tasks.add(executorService.submit(() -> {
+                for (int j = 0; j < increments; j++) {
+                    long current;
+                    do {
+                        current = repository.selectById(id).get().points();
+                    } while (!repository.compareAndSet(id, current, current + 1));
+                }
+            }));
+        }
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+        executorService.shutdown();
+
+        // then
+        Assertions.assertEquals((long) threads * increments, repository.selectById(id).get().points());
+    }
+
+    @Test
+    void 저장_가능한_유저_수를_초과하면_예외를_던진다() {
+        // given: 최대 2명까지 저장 가능한 저장소
+        LockFreeUserPointRepository smallRepository = new LockFreeUserPointRepository(2);
+        smallRepository.insertOrUpdate(1L, 100L);
+        smallRepository.insertOrUpdate(2L, 100L);
+
+        // when & then
+        IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class, () -> {
+            smallRepository.insertOrUpdate(3L, 100L);
+        });
+        Assertions.assertEquals("저장 가능한 유저 수를 초과했습니다.", exception.getMessage());
+    }
+
+    @Test
+    void 유저_정보가_없으면_0에서_충전하고_차감은_실패한다() {
+        // given
+        long id = 1L;
+
+        // when & then: 정보가 없는 유저의 차감은 실패, 충전은 0 에서 시작함을 검증
+        Assertions.assertTrue(repository.tryDebit(id, 100L).isEmpty());
+        Assertions.assertEquals(500L, repository.addAndGet(id, 500L).points());
+        Assertions.assertEquals(200L, repository.tryDebit(id, 300L).get().points());
+        Assertions.assertTrue(repository.tryDebit(id, 300L).isEmpty());
+        Assertions.assertEquals(200L, repository.selectById(id).get().points());
+    }
+
+    @Test
+    void 동시에_차감해도_잔고_이상으로_차감되지_않는다() throws Exception {
+        // given: 잔고 1000 에서 8개 스레드가 각각 10씩 50번 차감 시도 (총 4000)
+        long id = 1L;
+        repository.addAndGet(id, 1000L);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        List<Future<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            tasks.add(executorService.submit(() -> {
+                int succeeded = 0;
+                for (int j = 0; j < 50; j++) {
+                    if ( repository.tryDebit(id, 10L).isPresent() ) {
+                        succeeded++;
+                    }
+                }
+                return succeeded;
+            }));
+        }
+        int succeeded = 0;
+        for (Future<Integer> task : tasks) {
+            succeeded += task.get();
+        }
+        executorService.shutdown();
+
+        // then: 정확히 100번만 차감에 성공하고 잔고는 0
+        Assertions.assertEquals(100, succeeded);
+        Assertions.assertEquals(0L, repository.selectById(id).get().points());
+    }
+}
@@ -0,0 +1,139 @@
+package io.hhplus.tdd.infrastructure;
+
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class MappedPointHistoryRepositoryTest {
+
+    private MappedPointHistoryRepository repository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // segment 경계를 자주 넘도록 segment 하나를 100행으로 설정
+        repository = new MappedPointHistoryRepository(Files.createTempDirectory("history"), 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    void 여러_segment에_걸친_유저별_내역이_입력_순서대로_조회된다() {
+        // given: 두 유저의 내역을 번갈아 300건씩 추가
+        for (long amount = 1; amount <= 300; amount++) {
+            repository.insert(1L, amount, amount % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE, amount);
+            repository.insert(2L, -amount, TransactionType.CHARGE, amount);
+        }
+
+        // when
+        List<PointHistory> histories = repository.selectAllByUserId(1L).get();
+
+        // then: 다른 유저의 내역은 포함되지 않으며 입력 순서와 값이 유지됨을 검증
+        Assertions.assertEquals(300, histories.size());
+        for (int i = 0; i < histories.size(); i++) {
+            PointHistory history = histories.get(i);
+            Assertions.assertEquals(1L, history.userId());
+            Assertions.assertEquals(i + 1L, history.amount());
+            Assertions.assertEquals(i % 2 == 1 ? TransactionType.USE : TransactionType.CHARGE, history.type());
+            Assertions.assertEquals(i + 1L, history.updateMillis());
+        }
+        Assertions.assertEquals(300, repository.selectAllByUserId(2L).get().size());
+    }
+
+    @Test
+    void 커서와_시간_범위로_내역을_페이지_단위_조회한다() {
+        // given: updateMillis 가 1~200 인 200건의 내역 (sparse index 간격을 넘는 cursor 위치)
+        long userId = 1L;
+        for (long amount = 1; amount <= 200; amount++) {
+            repository.insert(userId, amount, TransactionType.CHARGE, amount);
+            repository.insert(2L, amount, TransactionType.CHARGE, amount);
+        }
+        List<PointHistory> firstPage = repository.selectPageByUserId(userId, new PointHistoryQuery(0L, 50, 101L, 180L));
+
+        // when: 첫 페이지의 마지막 id 를 커서로 다음 페이지 조회
+        long cursor = firstPage.get(firstPage.size() - 1).id();
+        List<PointHistory> secondPage = repository.selectPageByUserId(userId, new PointHistoryQuery(cursor, 50, 101L, 180L));
+
+        // then: 범위 내 80건이 순서대로 나뉘어 조회됨을 검증
+        Assertions.assertEquals(50, firstPage.size());
+        Assertions.assertEquals(101L, firstPage.get(0).updateMillis());
+        Assertions.assertEquals(30, secondPage.size());
+        Assertions.assertEquals(151L, secondPage.get(0).updateMillis());
+        Assertions.assertEquals(180L, secondPage.get(29).updateMillis());
+        Assertions.assertTrue(repository.selectPageByUserId(userId, new PointHistoryQuery(secondPage.get(29).id(), 50, 101L, 180L)).isEmpty());
+    }
+
+    @Test
+    void 시간_순서가_어긋난_내역이_있어도_시간_범위의_내역을_모두_조회한다() {
+        // given: updateMillis 가 1~300 인 내역
+        long userId = 1L;
+        for (long amount = 1; amount <= 300; amount++) {
+            repository.insert(userId, amount, TransactionType.CHARGE, amount);
+        }
+        List<PointHistory> ordered = repository.selectPageByUserId(userId, new PointHistoryQuery(0L, 50, 201L, 205L));
+
+        // when: 앞선 시각의 내역이 늦게 추가된 뒤 조회
+        repository.insert(userId, 301L, TransactionType.USE, 3L);
+        List<PointHistory> unordered = repository.selectPageByUserId(userId, new PointHistoryQuery(0L, 50, 1L, 5L));
+
+        // then: 범위 안의 내역만 id 순서대로 조회되고, 늦게 추가된 내역도 포함됨을 검증
+        Assertions.assertEquals(List.of(201L, 202L, 203L, 204L, 205L), ordered.stream().map(PointHistory::updateMillis).toList());
+        Assertions.assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 301L), unordered.stream().map(PointHistory::amount).toList());
+        Assertions.assertEquals(3L, unordered.get(5).updateMillis());
+    }
+
+    @Test
+    void 내역이_없는_유저는_빈_결과를_반환한다() {
+        Assertions.assertTrue(repository.selectAllByUserId(3L).isEmpty());
+        Assertions.assertTrue(repository.selectPageByUserId(3L, new PointHistoryQuery(0L, 10, 0L, Long.MAX_VALUE)).isEmpty());
+        Assertions.assertFalse(repository.iterateByUserId(3L).hasNext());
+    }
+
+    @Test
+    void 동시에_내역을_추가해도_id가_중복되지_않는다() throws Exception {
+        // given: 8명의 유저가 각각 1000건의 내역을 동시에 추가
+        int users = 8;
+        int rowsPerUser = 1000;
+        ExecutorService executorService = Executors.newFixedThreadPool(users);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (long userId = 1; userId <= users; userId++) {
+            long id = userId;
+            tasks.add(executorService.submit(() -> {
+                for (int i = 0; i < rowsPerUser; i++) {
+                    repository.insert(id, i, TransactionType.CHARGE, i);
+                }
+            }));
+        }
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+        executorService.shutdown();
+
+        // then: 전체 id 가 유일하고 유저별 내역이 입력 순서대로 조회됨을 검증
+        Set<Long> ids = new HashSet<>();
+        for (long userId = 1; userId <= users; userId++) {
+            List<PointHistory> histories = repository.selectAllByUserId(userId).get();
+            Assertions.assertEquals(rowsPerUser, histories.size());
+            for (int i = 0; i < rowsPerUser; i++) {
+                Assertions.assertEquals(i, histories.get(i).amount());
+            }
+            histories.forEach(history -> ids.add(history.id()));
+        }
+        Assertions.assertEquals(users * rowsPerUser, ids.size());
+    }
+}
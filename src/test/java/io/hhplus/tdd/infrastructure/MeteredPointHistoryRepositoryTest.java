@@ -0,0 +1,48 @@
+package io.hhplus.tdd.infrastructure;
+
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+class MeteredPointHistoryRepositoryTest {
+
+    @Test
+    void 호출별_소요_시간과_저장된_내역_수를_기록한다() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MeteredPointHistoryRepository repository = new MeteredPointHistoryRepository(new IndexedPointHistoryRepository(), meterRegistry);
+
+        // when: 내역 3건 추가 후 1번 조회
+        repository.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+        repository.insert(1L, 500L, TransactionType.USE, 2L);
+        repository.insert(2L, 300L, TransactionType.CHARGE, 3L);
+        repository.selectAllByUserId(1L);
+
+        // then
+        Assertions.assertEquals(3L, repository.size());
+        Assertions.assertEquals(3L, meterRegistry.get("point.repository.history").tag("operation", "insert").timer().count());
+        Assertions.assertEquals(1L, meterRegistry.get("point.repository.history").tag("operation", "selectAllByUserId").timer().count());
+    }
+
+    @Test
+    void 종료가_필요한_원본_저장소에_close를_전달한다() throws Exception {
+        // given: 종료 시 segment 파일을 삭제하는 MappedPointHistoryRepository
+        Path directory = Files.createTempDirectory("metered-history");
+        MeteredPointHistoryRepository repository = new MeteredPointHistoryRepository(
+                new MappedPointHistoryRepository(directory, 1024), new SimpleMeterRegistry());
+        repository.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+
+        // when
+        repository.close();
+
+        // then
+        try (var files = Files.list(directory)) {
+            Assertions.assertEquals(0L, files.count());
+        }
+        Files.deleteIfExists(directory);
+    }
+}
@@ -0,0 +1,88 @@
+package io.hhplus.tdd.persistence;
+
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.infrastructure.IndexedPointHistoryRepository;
+import io.hhplus.tdd.infrastructure.LockFreeUserPointRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+class PointSnapshotterTest {
+
+    @Test
+    void 스냅샷과_이후_기록만으로_잔고와_내역을_복구한다() throws Exception {
+        // given: 스냅샷 두 번 사이사이에 기록
+        Path directory = Files.createTempDirectory("wal");
+        WriteAheadLog wal = new WriteAheadLog(directory, Duration.ofMillis(1), 4096, 1 << 20);
+        PointSnapshotter snapshotter = new PointSnapshotter(wal, Duration.ofHours(1));
+        for (long userId = 1; userId <= 10; userId++) {
+            wal.append(new PointJournalEntry(userId, TransactionType.CHARGE, 1000L, 1000L, 1L)).join();
+        }
+        snapshotter.snapshot();
+        for (long userId = 1; userId <= 10; userId++) {
+            wal.append(new PointJournalEntry(userId, TransactionType.USE, 300L, 700L, 2L)).join();
+        }
+        Path snapshot = snapshotter.snapshot().get();
+        wal.append(new PointJournalEntry(1L, TransactionType.CHARGE, 50L, 750L, 3L)).join();
+        snapshotter.close();
+        wal.close();
+
+        // when
+        LockFreeUserPointRepository userPointRepository = new LockFreeUserPointRepository(64);
+        IndexedPointHistoryRepository pointHistoryRepository = new IndexedPointHistoryRepository();
+        PointJournalReplayer.ReplayResult result = new PointJournalReplayer(userPointRepository, pointHistoryRepository).replay(directory);
+
+        // then: 스냅샷에 포함된 segment 와 이전 스냅샷은 삭제되고, 스냅샷 이후 기록 1건만 replay 됨을 검증
+        Assertions.assertEquals(snapshot, PointSnapshot.latest(directory).get());
+        Assertions.assertTrue(WriteAheadLog.segments(directory).stream()
+                .allMatch(segment -> WriteAheadLog.segmentId(segment) > PointSnapshot.coveredSegmentId(snapshot)));
+        Assertions.assertEquals(Files.size(snapshot), result.snapshotBytes());
+        Assertions.assertEquals(1L, result.entries());
+        Assertions.assertEquals(750L, userPointRepository.selectById(1L).get().points());
+        Assertions.assertEquals(700L, userPointRepository.selectById(10L).get().points());
+        Assertions.assertEquals(3, pointHistoryRepository.selectAllByUserId(1L).get().size());
+        Assertions.assertEquals(2, pointHistoryRepository.selectAllByUserId(10L).get().size());
+    }
+
+    @Test
+    void 새_기록이_없으면_스냅샷을_만들지_않는다() throws Exception {
+        Path directory = Files.createTempDirectory("wal");
+        WriteAheadLog wal = new WriteAheadLog(directory, Duration.ofMillis(1), 4096, 1 << 20);
+        PointSnapshotter snapshotter = new PointSnapshotter(wal, Duration.ofHours(1));
+
+        Assertions.assertTrue(snapshotter.snapshot().isEmpty());
+        snapshotter.close();
+        wal.close();
+    }
+
+    @Test
+    void 닫힌_segment가_손상되면_스냅샷을_만들지_않는다() throws Exception {
+        // given: 기록 후 손상된 segment
+        Path directory = Files.createTempDirectory("wal");
+        WriteAheadLog wal = new WriteAheadLog(directory, Duration.ofMillis(1), 4096, 1 << 20);
+        PointSnapshotter snapshotter = new PointSnapshotter(wal, Duration.ofHours(1));
+        wal.append(new PointJournalEntry(1L, TransactionType.CHARGE, 1000L, 1000L, 1L)).join();
+        wal.append(new PointJournalEntry(1L, TransactionType.USE, 300L, 700L, 2L)).join();
+        Path segment = WriteAheadLog.segments(directory).get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 0xFF}), 10);
+        }
+
+        // when & then: 스냅샷 생성에 실패하고, 스냅샷/임시 파일 없이 segment 가 그대로 남아 있음을 검증
+        Assertions.assertThrows(IOException.class, snapshotter::snapshot);
+        Assertions.assertTrue(PointSnapshot.latest(directory).isEmpty());
+        Assertions.assertTrue(Files.exists(segment));
+        try (var files = Files.list(directory)) {
+            Assertions.assertTrue(files.noneMatch(path -> path.getFileName().toString().endsWith(".tmp")));
+        }
+        snapshotter.close();
+        wal.close();
+    }
+}
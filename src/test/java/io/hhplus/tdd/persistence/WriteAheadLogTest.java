@@ -0,0 +1,103 @@
+package io.hhplus.tdd.persistence;
+
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.infrastructure.IndexedPointHistoryRepository;
+import io.hhplus.tdd.infrastructure.LockFreeUserPointRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+class WriteAheadLogTest {
+
+    @Test
+    void 기록한_변경_내역으로_잔고와_내역을_복구한다() throws Exception {
+        // given: 8명의 유저가 동시에 100번씩 10포인트 충전, 작은 segment 크기로 여러 segment 에 나눠 기록
+        Path directory = Files.createTempDirectory("wal");
+        WriteAheadLog wal = new WriteAheadLog(directory, Duration.ofMillis(1), 4096, 1024);
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (long userId = 1; userId <= 8; userId++) {
+            long id = userId;
+            tasks.add(CompletableFuture.runAsync(() -> {
+                for (int i = 1; i <= 100; i++) {
+                    wal.append(new PointJournalEntry(id, TransactionType.CHARGE, 10L, i * 10L, i)).join();
+                }
+            }));
+        }
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+        wal.close();
+
+        // when
+        LockFreeUserPointRepository userPointRepository = new LockFreeUserPointRepository(64);
+        IndexedPointHistoryRepository pointHistoryRepository = new IndexedPointHistoryRepository();
+        long replayed = new PointJournalReplayer(userPointRepository, pointHistoryRepository).replay(directory).entries();
+
+        // then
+        Assertions.assertTrue(WriteAheadLog.segments(directory).size() > 1);
+        Assertions.assertEquals(800L, replayed);
+        for (long userId = 1; userId <= 8; userId++) {
+            Assertions.assertEquals(1000L, userPointRepository.selectById(userId).get().points());
+            Assertions.assertEquals(100, pointHistoryRepository.selectAllByUserId(userId).get().size());
+        }
+    }
+
+    @Test
+    void 잘린_마지막_기록은_버리고_이어서_기록한다() throws Exception {
+        // given: 정상 기록 3건 뒤에 비정상 종료로 일부만 쓰인 기록
+        Path directory = Files.createTempDirectory("wal");
+        WriteAheadLog wal = new WriteAheadLog(directory, Duration.ofMillis(1), 4096, 1 << 20);
+        wal.append(new PointJournalEntry(1L, TransactionType.CHARGE, 1000L, 1000L, 1L)).join();
+        wal.append(new PointJournalEntry(1L, TransactionType.USE, 300L, 700L, 2L)).join();
+        wal.append(new PointJournalEntry(1L, TransactionType.CHARGE, 50L, 750L, 3L)).join();
+        wal.close();
+        Path segment = WriteAheadLog.segments(directory).get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 1, 2, 3, 4}));
+        }
+
+        // when: 복구 후 다시 열어 기록
+        LockFreeUserPointRepository userPointRepository = new LockFreeUserPointRepository(64);
+        long replayed = new PointJournalReplayer(userPointRepository, new IndexedPointHistoryRepository()).replay(directory).entries();
+        WriteAheadLog reopened = new WriteAheadLog(directory, Duration.ofMillis(1), 4096, 1 << 20);
+        reopened.append(new PointJournalEntry(1L, TransactionType.USE, 50L, 700L, 4L)).join();
+        reopened.close();
+
+        // then: 잘린 부분은 제거되고, 새 기록까지 복구됨을 검증
+        Assertions.assertEquals(3L, replayed);
+        Assertions.assertEquals(750L, userPointRepository.selectById(1L).get().points());
+        Assertions.assertEquals(3L * WriteAheadLog.RECORD_BYTES, Files.size(segment));
+        LockFreeUserPointRepository recovered = new LockFreeUserPointRepository(64);
+        Assertions.assertEquals(4L, new PointJournalReplayer(recovered, new IndexedPointHistoryRepository()).replay(directory).entries());
+        Assertions.assertEquals(700L, recovered.selectById(1L).get().points());
+    }
+
+    @Test
+    void 마지막이_아닌_segment가_손상되면_복구에_실패한다() throws Exception {
+        // given: 두 segment 에 나눠 기록한 뒤 첫 segment 의 기록 하나를 손상
+        Path directory = Files.createTempDirectory("wal");
+        WriteAheadLog wal = new WriteAheadLog(directory, Duration.ofMillis(1), 4096, 1 << 20);
+        wal.append(new PointJournalEntry(1L, TransactionType.CHARGE, 1000L, 1000L, 1L)).join();
+        wal.append(new PointJournalEntry(1L, TransactionType.USE, 300L, 700L, 2L)).join();
+        wal.rollSegment();
+        wal.append(new PointJournalEntry(1L, TransactionType.CHARGE, 50L, 750L, 3L)).join();
+        wal.close();
+        Path sealed = WriteAheadLog.segments(directory).get(0);
+        try (FileChannel channel = FileChannel.open(sealed, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 0xFF}), 10);
+        }
+
+        // when & then: 잘라내지 않고 실패하며 손상된 segment 는 그대로 남아 있음을 검증
+        Assertions.assertThrows(IOException.class, () ->
+                new PointJournalReplayer(new LockFreeUserPointRepository(64), new IndexedPointHistoryRepository()).replay(directory));
+        Assertions.assertEquals(2L * WriteAheadLog.RECORD_BYTES, Files.size(sealed));
+    }
+}
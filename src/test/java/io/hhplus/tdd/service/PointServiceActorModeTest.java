@@ -0,0 +1,58 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.domain.point.PointService;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@SpringBootTest(properties = "point.execution.mode=ACTOR")
+public class PointServiceActorModeTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Test
+    public void ACTOR_모드에서_동일_유저의_동시_요청은_적재된_순서대로_처리된다() {
+        // given: 초기 잔고 1000
+        long id = 201L;
+        pointService.chargePoints(id, 1000L);
+
+        // when: 충전 3회, 사용 1회를 기다리지 않고 연달아 적재
+        List<CompletableFuture<UserPoint>> results = new ArrayList<>();
+        results.add(pointService.chargePointsAsync(id, 100L));
+        results.add(pointService.usePointsAsync(id, 500L));
+        results.add(pointService.chargePointsAsync(id, 200L));
+        results.add(pointService.chargePointsAsync(id, 300L));
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).join();
+
+        // then: 각 요청의 결과가 적재 순서대로 누적된 잔고와 같음을 검증
+        Assertions.assertEquals(1100L, results.get(0).join().points());
+        Assertions.assertEquals(600L, results.get(1).join().points());
+        Assertions.assertEquals(800L, results.get(2).join().points());
+        Assertions.assertEquals(1100L, results.get(3).join().points());
+        Assertions.assertEquals(1100L, pointService.findPoints(id).get().points());
+    }
+
+    @Test
+    public void ACTOR_모드에서_잔고가_부족하면_해당_요청만_실패한다() {
+        // given: 초기 잔고 1000
+        long id = 202L;
+        pointService.chargePoints(id, 1000L);
+
+        // when: 잔고 이상의 사용 요청 후 충전 요청
+        CompletableFuture<UserPoint> useResult = pointService.usePointsAsync(id, 5000L);
+        CompletableFuture<UserPoint> chargeResult = pointService.chargePointsAsync(id, 500L);
+
+        // then: 사용 요청만 실패하고, 이후 충전은 정상 처리됨을 검증
+        CompletionException exception = Assertions.assertThrows(CompletionException.class, useResult::join);
+        Assertions.assertEquals("잔고가 부족합니다.", exception.getCause().getMessage());
+        Assertions.assertEquals(1500L, chargeResult.join().points());
+    }
+}
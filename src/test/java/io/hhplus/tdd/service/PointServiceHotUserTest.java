@@ -0,0 +1,77 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.domain.point.PointService;
+import io.hhplus.tdd.domain.point.dto.HotUser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// UserPointTable 의 지연 없이 묶음 처리 경로만 확인하기 위해 LOCK_FREE/INDEXED 저장소 사용
+@SpringBootTest(properties = {
+        "point.hot-user.enabled=true",
+        "point.hot-user.sampling=1",
+        "point.hot-user.threshold=20",
+        "point.storage.user-point=LOCK_FREE",
+        "point.storage.history=INDEXED"
+})
+public class PointServiceHotUserTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Test
+    public void 요청이_몰린_유저는_hot_user로_조회되고_묶음_처리_후에도_잔고와_내역이_정확하다() throws Exception {
+        // given
+        long hotUserId = 401L;
+        long coldUserId = 402L;
+
+        long acquiredBefore = pointService.getLockManager().getMetrics().acquired();
+
+        // when: hot user 에게 100원씩 200번 동시에 충전, 다른 유저는 1번 충전
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            tasks.add(executorService.submit(() -> pointService.chargePoints(hotUserId, 100L)));
+        }
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+        executorService.shutdown();
+        long hotUserLockAcquisitions = pointService.getLockManager().getMetrics().acquired() - acquiredBefore;
+        pointService.chargePoints(coldUserId, 100L);
+
+        // then
+        List<HotUser> hotUsers = pointService.findHotUsers();
+        Assertions.assertTrue(hotUsers.stream().anyMatch(hotUser -> hotUser.userId() == hotUserId));
+        Assertions.assertTrue(hotUsers.stream().noneMatch(hotUser -> hotUser.userId() == coldUserId));
+        Assertions.assertEquals(20_000L, pointService.findPoints(hotUserId).get().points());
+        Assertions.assertEquals(200, pointService.findHistory(hotUserId).get().size());
+        // 직접 처리는 요청마다 락을 1번 잡음. 감지(threshold 20건) 전의 요청과 전환 중 처리 중이던 요청(스레드 16개)만 직접 처리되고
+        // 나머지가 묶음 처리되었다면 락 획득 횟수는 요청 수의 절반 이하
+        Assertions.assertTrue(hotUserLockAcquisitions <= 100,
+                "묶음 처리되지 않음: 충전 200건에 락 " + hotUserLockAcquisitions + "번 획득");
+    }
+
+    @Test
+    public void hot_user의_잔고를_초과하는_사용_요청은_직접_처리와_같은_메세지로_실패한다() {
+        // given: hot user 로 감지될 만큼 충전한 유저
+        long hotUserId = 403L;
+        for (int i = 0; i < 30; i++) {
+            pointService.chargePoints(hotUserId, 10L);
+        }
+
+        // when
+        RuntimeException exception = Assertions.assertThrows(RuntimeException.class, () -> pointService.usePoints(hotUserId, 1000L));
+
+        // then
+        Assertions.assertEquals("잔고가 부족합니다.", exception.getMessage());
+        Assertions.assertEquals(300L, pointService.findPoints(hotUserId).get().points());
+    }
+}
@@ -1,12 +1,16 @@
 package io.hhplus.tdd.service;
 
 import io.hhplus.tdd.domain.point.PointService;
+import io.hhplus.tdd.domain.point.dto.PointOperation;
+import io.hhplus.tdd.domain.point.dto.PointOperationResult;
+import io.hhplus.tdd.domain.point.model.TransactionType;
 import io.hhplus.tdd.domain.point.model.UserPoint;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -112,4 +116,31 @@ public class PointServiceIntegrationTest {
         Assertions.assertEquals(initialPoint - amountToUse + amountToCharge + amountToCharge, user2Result.map(UserPoint::points).orElse(0L));
         Assertions.assertEquals(initialPoint - amountToUse - amountToUse + amountToCharge, user3Result.map(UserPoint::points).orElse(0L));
     }
-}
\ No newline at end of file
+
+    /**
+     * 다수 유저의 일괄 처리 요청
+     */
+    @Test
+    public void 일괄_처리_시_유저별_순서대로_처리하고_실패한_명령만_실패로_반환한다() {
+        // given: 401번 유저는 충전 후 사용, 402번 유저는 잔고보다 큰 금액 사용 후 충전
+        long id1 = 401L;
+        long id2 = 402L;
+        List<PointOperation> operations = List.of(
+                new PointOperation(id1, TransactionType.CHARGE, 10000L),
+                new PointOperation(id2, TransactionType.USE, 5000L),
+                new PointOperation(id1, TransactionType.USE, 3000L),
+                new PointOperation(id2, TransactionType.CHARGE, 2000L)
+        );
+
+        // when
+        List<PointOperationResult> results = pointService.executeBatch(operations);
+
+        // then: 결과는 요청 순서대로 반환되고 잔고 부족인 명령만 실패
+        Assertions.assertEquals(4, results.size());
+        Assertions.assertTrue(results.get(0).success());
+        Assertions.assertFalse(results.get(1).success());
+        Assertions.assertEquals(7000L, results.get(2).userPoint().points());
+        Assertions.assertEquals(2000L, results.get(3).userPoint().points());
+        Assertions.assertEquals(7000L, pointService.findPoints(id1).map(UserPoint::points).orElse(0L));
+    }
+}
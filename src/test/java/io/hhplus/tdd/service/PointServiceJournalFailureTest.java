@@ -0,0 +1,82 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.common.LockManager;
+import io.hhplus.tdd.common.PointCommandDispatcher;
+import io.hhplus.tdd.common.PointExecutionMode;
+import io.hhplus.tdd.common.PointExecutionProperties;
+import io.hhplus.tdd.common.PointManager;
+import io.hhplus.tdd.domain.point.PointService;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.infrastructure.IndexedPointHistoryRepository;
+import io.hhplus.tdd.infrastructure.LockFreeUserPointRepository;
+import io.hhplus.tdd.persistence.PointJournal;
+import io.hhplus.tdd.persistence.PointJournalEntry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class PointServiceJournalFailureTest {
+
+    @Test
+    public void ATOMIC_모드에서_기록에_실패한_충전액은_동시에_요청된_사용에_쓰이지_않는다() throws Exception {
+        // given: 잔고 100, 1000 충전의 기록은 사용 요청이 시작된 뒤 실패하는 journal
+        long id = 1L;
+        CountDownLatch chargeJournaling = new CountDownLatch(1);
+        CountDownLatch useStarted = new CountDownLatch(1);
+        ConcurrentLinkedQueue<PointJournalEntry> journaled = new ConcurrentLinkedQueue<>();
+        PointJournal journal = entry -> {
+            if ( entry.type() == TransactionType.CHARGE && entry.amount() == 1000L ) {
+                chargeJournaling.countDown();
+                return CompletableFuture.runAsync(() -> {
+                    try {
+                        useStarted.await(1, TimeUnit.SECONDS);
+                        // 사용 요청이 잔고를 확인할 시간을 준 뒤 실패
+                        Thread.sleep(200);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new UncheckedIOException(new IOException("disk full"));
+                });
+            }
+            journaled.add(entry);
+            return CompletableFuture.completedFuture(null);
+        };
+        PointExecutionProperties executionProperties = new PointExecutionProperties();
+        executionProperties.setMode(PointExecutionMode.ATOMIC);
+        PointManager pointManager = new PointManager(new LockFreeUserPointRepository(1024), new IndexedPointHistoryRepository(), journal);
+        PointCommandDispatcher pointCommandDispatcher = new PointCommandDispatcher(pointManager, executionProperties);
+        PointService pointService = new PointService(new LockManager(), pointManager, pointCommandDispatcher, executionProperties);
+        pointService.chargePoints(id, 100L);
+
+        try {
+            // when: 1000 충전의 기록을 기다리는 동안 1000 사용 요청
+            CompletableFuture<Void> charge = CompletableFuture.runAsync(() -> pointService.chargePoints(id, 1000L));
+            Assertions.assertTrue(chargeJournaling.await(1, TimeUnit.SECONDS));
+            CompletableFuture<Void> use = CompletableFuture.runAsync(() -> {
+                useStarted.countDown();
+                pointService.usePoints(id, 1000L);
+            });
+
+            // then: 충전은 기록 실패로, 사용은 잔고 부족으로 실패하고 잔고는 음수가 되지 않음
+            ExecutionException chargeFailure = Assertions.assertThrows(ExecutionException.class, () -> charge.get(5, TimeUnit.SECONDS));
+            ExecutionException useFailure = Assertions.assertThrows(ExecutionException.class, () -> use.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals("변경 내역 기록에 실패했습니다.", chargeFailure.getCause().getMessage());
+            Assertions.assertEquals("잔고가 부족합니다.", useFailure.getCause().getMessage());
+            Assertions.assertEquals(100L, pointService.findPoints(id).get().points());
+            // 기록에는 성공한 첫 충전만 남음
+            Assertions.assertEquals(List.of(TransactionType.CHARGE), journaled.stream().map(PointJournalEntry::type).toList());
+            Assertions.assertEquals(100L, journaled.peek().balance());
+        } finally {
+            pointService.shutdown();
+            pointCommandDispatcher.shutdown();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.domain.point.PointService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// UserPointTable 의 지연 없이 sub-counter 반영만 확인하기 위해 LOCK_FREE/INDEXED 저장소 사용
+@SpringBootTest(properties = {
+        "point.striped-balance.user-ids=501,502",
+        "point.storage.user-point=LOCK_FREE",
+        "point.storage.history=INDEXED"
+})
+public class PointServiceStripedBalanceTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Test
+    public void sub_counter_유저에게_충전과_사용이_동시에_몰려도_잔고가_정확하다() throws Exception {
+        // given: 초기 잔고 10000
+        long id = 501L;
+        pointService.chargePoints(id, 10_000L);
+
+        // when: 100원 충전 400번과 50원 사용 100번을 동시에 요청
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            tasks.add(executorService.submit(() -> pointService.chargePoints(id, 100L)));
+            if ( i % 4 == 0 ) {
+                tasks.add(executorService.submit(() -> pointService.usePoints(id, 50L)));
+            }
+        }
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+        executorService.shutdown();
+
+        // then: 10000 + 400 * 100 - 100 * 50
+        Assertions.assertEquals(45_000L, pointService.findPoints(id).get().points());
+        Assertions.assertEquals(501, pointService.findHistory(id).get().size());
+    }
+
+    @Test
+    public void sub_counter에만_모인_충전액도_조회와_사용에_반영된다() {
+        // given: 잔고에 반영되지 않은 충전만 있는 유저
+        long id = 502L;
+        pointService.chargePoints(id, 300L);
+        pointService.chargePoints(id, 200L);
+
+        // when & then
+        Assertions.assertEquals(500L, pointService.findPoints(id).get().points());
+        Assertions.assertEquals(100L, pointService.usePoints(id, 400L).points());
+        RuntimeException exception = Assertions.assertThrows(RuntimeException.class, () -> pointService.usePoints(id, 200L));
+        Assertions.assertEquals("잔고가 부족합니다.", exception.getMessage());
+    }
+}
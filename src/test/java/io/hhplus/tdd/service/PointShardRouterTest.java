@@ -0,0 +1,83 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.domain.point.PointShardRouter;
+import io.hhplus.tdd.domain.point.dto.PointOperation;
+import io.hhplus.tdd.domain.point.dto.PointOperationResult;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// UserPointTable 의 지연 없이 shard 간 동시 처리만 확인하기 위해 LOCK_FREE/INDEXED 저장소 사용
+@SpringBootTest(properties = {
+        "point.execution.shards=4",
+        "point.storage.user-point=LOCK_FREE",
+        "point.storage.history=INDEXED"
+})
+public class PointShardRouterTest {
+
+    @Autowired
+    private PointShardRouter pointShardRouter;
+
+    @Test
+    public void 여러_shard의_유저를_동시에_충전해도_유저별_잔고와_내역이_정확하다() throws Exception {
+        // given: 서로 다른 shard 에 배정된 유저들
+        List<Long> userIds = new ArrayList<>();
+        Set<Integer> shards = new HashSet<>();
+        for (long id = 301L; userIds.size() < 16; id++) {
+            userIds.add(id);
+            shards.add(pointShardRouter.shardOf(id));
+        }
+
+        // when: 유저마다 100원씩 50번 동시에 충전
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (long id : userIds) {
+            for (int i = 0; i < 50; i++) {
+                tasks.add(executorService.submit(() -> pointShardRouter.chargePoints(id, 100L)));
+            }
+        }
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+        executorService.shutdown();
+
+        // then
+        Assertions.assertEquals(4, pointShardRouter.shardCount());
+        Assertions.assertTrue(shards.size() > 1);
+        for (long id : userIds) {
+            Assertions.assertEquals(5000L, pointShardRouter.findPoints(id).get().points());
+            Assertions.assertEquals(50, pointShardRouter.findHistory(id).get().size());
+        }
+    }
+
+    @Test
+    public void 여러_shard에_걸친_일괄_처리_결과는_요청_순서대로_반환된다() {
+        // given: 여러 shard 의 유저에 대한 충전과, 잔고를 초과하는 사용
+        List<PointOperation> operations = new ArrayList<>();
+        for (long id = 401L; id <= 420L; id++) {
+            operations.add(new PointOperation(id, TransactionType.CHARGE, id));
+            operations.add(new PointOperation(id, TransactionType.USE, id + 1));
+        }
+
+        // when
+        List<PointOperationResult> results = pointShardRouter.executeBatch(operations);
+
+        // then: 충전은 성공, 사용은 잔고 부족으로 실패하며 결과 순서가 요청과 같음을 검증
+        Assertions.assertEquals(operations.size(), results.size());
+        for (int i = 0; i < results.size(); i++) {
+            long id = 401L + i / 2;
+            Assertions.assertEquals(id, results.get(i).userId());
+            Assertions.assertEquals(i % 2 == 0, results.get(i).success());
+        }
+    }
+}
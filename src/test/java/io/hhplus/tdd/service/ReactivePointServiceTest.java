@@ -0,0 +1,54 @@
+package io.hhplus.tdd.service;
+
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.domain.point.ReactivePointService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.NestedExceptionUtils;
+
+import java.util.List;
+
+public class ReactivePointServiceTest {
+
+    @Test
+    public void reactive_스택이_지원하지_않는_설정은_무시하지_않고_시작에_실패한다() {
+        // given: mailbox 모드, striped balance, hot user 묶음 처리 설정
+        List<String> unsupported = List.of(
+                "point.execution.mode=ACTOR",
+                "point.execution.mode=GROUP_COMMIT",
+                "point.striped-balance.user-ids=7",
+                "point.hot-user.enabled=true"
+        );
+
+        for (String property : unsupported) {
+            // when: reactive 스택으로 시작
+            Exception exception = Assertions.assertThrows(Exception.class, () -> start(property).close(), property);
+
+            // then: 설정을 지원하지 않는다는 이유로 시작에 실패함을 검증
+            Throwable cause = NestedExceptionUtils.getMostSpecificCause(exception);
+            Assertions.assertInstanceOf(IllegalStateException.class, cause, property);
+            Assertions.assertTrue(cause.getMessage().startsWith("reactive 스택은"), cause.getMessage());
+        }
+    }
+
+    @Test
+    public void reactive_스택은_LOCK_ATOMIC_모드로_시작한다() {
+        for (String property : List.of("point.execution.mode=LOCK", "point.execution.mode=ATOMIC")) {
+            try (ConfigurableApplicationContext context = start(property)) {
+                Assertions.assertNotNull(context.getBean(ReactivePointService.class));
+            }
+        }
+    }
+
+    /**
+     * application.yml 보다 우선하도록 설정을 실행 인자로 전달
+     */
+    private ConfigurableApplicationContext start(String property) {
+        return new SpringApplicationBuilder(TddApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .run("--server.port=0", "--" + property);
+    }
+}